@@ -0,0 +1,15 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+/**
+ * A benchmark resource able to produce a single change in the source, used to measure end-to-end latency.
+ */
+public interface ChangeEventTrigger {
+
+    void trigger() throws Exception;
+}
@@ -0,0 +1,156 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.source.SourceConnector;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Connector under test, its resources and configuration, shared by all the benchmarks. Everything comes from
+ * JMH parameters, e.g. {@code -p connector=... -p resources=a.ResourceA,b.ResourceB -p configuration=key=value,key=value},
+ * {@code -p engine=EMBEDDED,ASYNC} compares the two engine implementations.
+ */
+@State(Scope.Benchmark)
+public class ConnectorBenchmarkState {
+
+    @Param({ "io.debezium.junit.SyntheticSourceConnector" })
+    public String connector;
+
+    @Param({ "io.debezium.junit.SyntheticResource" })
+    public String resources;
+
+    @Param({ "synthetic.rate.per.second=0,synthetic.snapshot.records=100000" })
+    public String configuration;
+
+    @Param({ "EMBEDDED" })
+    public EngineImplementation engine;
+
+    @Param({ "60" })
+    public int timeoutSeconds;
+
+    @Param({ "65536" })
+    public int queueCapacity;
+
+    private TestResources testResources;
+    private Map<String, String> resourcesConfiguration;
+
+    void startResources() {
+        testResources = new TestResources(Arrays.stream(resources.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(ConnectorBenchmarkState::newResource)
+                .toList());
+        resourcesConfiguration = testResources.start();
+    }
+
+    void stopResources() {
+        if (testResources != null) {
+            testResources.stop();
+        }
+    }
+
+    List<DebeziumTestResourceLifecycleManager> resources() {
+        return testResources.resources();
+    }
+
+    /**
+     * @return the first resource able to produce a change in the source
+     */
+    Optional<ChangeEventTrigger> trigger() {
+        return resources().stream()
+                .filter(ChangeEventTrigger.class::isInstance)
+                .map(ChangeEventTrigger.class::cast)
+                .findFirst();
+    }
+
+    Duration timeout() {
+        return Duration.ofSeconds(timeoutSeconds);
+    }
+
+    /**
+     * @return a not yet running engine whose streamed change events are published to the queue, snapshot ones are skipped
+     */
+    DefaultJunitDebeziumEngine newEngine(BlockingQueue<SourceRecord> queue) {
+        Map<String, String> engineConfiguration = new HashMap<>(resourcesConfiguration);
+        Arrays.stream(configuration.split(","))
+                .map(String::trim)
+                .filter(entry -> entry.contains("="))
+                .forEach(entry -> engineConfiguration.put(entry.substring(0, entry.indexOf('=')), entry.substring(entry.indexOf('=') + 1)));
+
+        DefaultJunitDebeziumEngine engine = new DefaultJunitDebeziumEngine(connectorClass(), engineConfiguration,
+                new NoOpConnectorCallback(), new ChangeEventBuffer(0, EvictionPolicy.DROP_OLDEST), ConsumptionMode.BATCH,
+                this.engine, null);
+
+        if (queue != null) {
+            engine.addListener(record -> {
+                if (engine.getLifecycle().hasReached(EnginePhase.STREAMING_STARTED)) {
+                    queue.put(record);
+                }
+            });
+        }
+
+        return engine;
+    }
+
+    BlockingQueue<SourceRecord> newQueue() {
+        return new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    SourceRecord take(BlockingQueue<SourceRecord> queue) throws InterruptedException {
+        SourceRecord record = queue.poll(timeoutSeconds, TimeUnit.SECONDS);
+
+        if (record == null) {
+            throw new IllegalStateException("No change event received within " + timeoutSeconds + "s");
+        }
+
+        return record;
+    }
+
+    static void close(JunitDebeziumEngine engine) {
+        try {
+            if (engine != null) {
+                engine.close();
+            }
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends SourceConnector> connectorClass() {
+        try {
+            return (Class<? extends SourceConnector>) Class.forName(connector);
+        }
+        catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Connector not found: " + connector, e);
+        }
+    }
+
+    private static DebeziumTestResourceLifecycleManager newResource(String className) {
+        try {
+            return (DebeziumTestResourceLifecycleManager) Class.forName(className).getDeclaredConstructor().newInstance();
+        }
+        catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Resource not instantiable: " + className, e);
+        }
+    }
+}
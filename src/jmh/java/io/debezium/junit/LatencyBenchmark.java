@@ -0,0 +1,73 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.source.SourceRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Produces a single change through a {@link ChangeEventTrigger} resource and waits for its change event:
+ * the sampled times are the end-to-end latency percentiles.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class LatencyBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class LatencyState {
+        private DefaultJunitDebeziumEngine engine;
+        private BlockingQueue<SourceRecord> queue;
+        private ChangeEventTrigger trigger;
+
+        @Setup(Level.Trial)
+        public void start(ConnectorBenchmarkState state) {
+            state.startResources();
+            trigger = state.trigger()
+                    .orElseThrow(() -> new IllegalStateException("No resource implements " + ChangeEventTrigger.class.getSimpleName()));
+
+            queue = state.newQueue();
+            engine = state.newEngine(queue);
+            engine.run();
+            engine.awaitPhase(EnginePhase.SNAPSHOT_COMPLETED, state.timeout());
+        }
+
+        @Setup(Level.Iteration)
+        public void drain() {
+            queue.clear();
+        }
+
+        @TearDown(Level.Trial)
+        public void stop(ConnectorBenchmarkState state) {
+            ConnectorBenchmarkState.close(engine);
+            state.stopResources();
+        }
+    }
+
+    @Benchmark
+    public SourceRecord endToEnd(ConnectorBenchmarkState state, LatencyState latency) throws Exception {
+        latency.trigger.trigger();
+
+        return state.take(latency.queue);
+    }
+}
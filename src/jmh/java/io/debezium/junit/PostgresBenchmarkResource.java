@@ -0,0 +1,69 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import io.debezium.PostgresResource;
+
+/**
+ * {@link PostgresResource} with a {@code benchmark} table seeded with {@code benchmark.rows} rows (default 100000),
+ * able to trigger single inserts.
+ */
+public class PostgresBenchmarkResource extends PostgresResource implements ChangeEventTrigger {
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 100_000);
+
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Override
+    public Map<String, String> start() {
+        Map<String, String> configuration = super.start();
+
+        try {
+            connection = DriverManager.getConnection(String.format("jdbc:postgresql://%s:%s/%s",
+                    configuration.get("database.hostname"), configuration.get("database.port"), configuration.get("database.dbname")),
+                    configuration.get("database.user"), configuration.get("database.password"));
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE IF NOT EXISTS benchmark (id BIGSERIAL PRIMARY KEY, payload TEXT)");
+                statement.execute("TRUNCATE benchmark");
+                statement.execute("INSERT INTO benchmark (payload) SELECT md5(i::text) FROM generate_series(1, " + ROWS + ") AS i");
+            }
+
+            insert = connection.prepareStatement("INSERT INTO benchmark (payload) VALUES ('latency')");
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+
+        return configuration;
+    }
+
+    @Override
+    public void trigger() throws SQLException {
+        insert.executeUpdate();
+    }
+
+    @Override
+    public void stop() {
+        try {
+            if (connection != null) {
+                connection.close();
+            }
+        }
+        catch (SQLException ignore) {
+        }
+
+        super.stop();
+    }
+}
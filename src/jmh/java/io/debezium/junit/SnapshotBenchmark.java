@@ -0,0 +1,101 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs a full initial snapshot per invocation: the {@code rows} counter is the snapshot throughput in rows per second.
+ * Only the records of the initial snapshot are counted, those streamed before the engine is closed are not.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SnapshotState {
+        private DefaultJunitDebeziumEngine engine;
+        private final LongAdder snapshotRows = new LongAdder();
+
+        @Setup(Level.Trial)
+        public void startResources(ConnectorBenchmarkState state) {
+            state.startResources();
+        }
+
+        @Setup(Level.Invocation)
+        public void createEngine(ConnectorBenchmarkState state) {
+            snapshotRows.reset();
+            engine = state.newEngine(null);
+            engine.addListener(record -> {
+                if (isSnapshotRecord(record)) {
+                    snapshotRows.increment();
+                }
+            });
+        }
+
+        /**
+         * @return whether the {@code source.snapshot} field marks a record of the initial snapshot, {@code true},
+         * {@code first}, {@code last} and their per table variants
+         */
+        private static boolean isSnapshotRecord(SourceRecord record) {
+            if (!(record.value() instanceof Struct value) || value.schema().field("source") == null
+                    || !(value.get("source") instanceof Struct source) || source.schema().field("snapshot") == null) {
+                return false;
+            }
+            Object snapshot = source.get("snapshot");
+
+            return snapshot != null && !"false".equals(snapshot) && !"incremental".equals(snapshot);
+        }
+
+        @TearDown(Level.Invocation)
+        public void closeEngine() {
+            ConnectorBenchmarkState.close(engine);
+        }
+
+        @TearDown(Level.Trial)
+        public void stopResources(ConnectorBenchmarkState state) {
+            state.stopResources();
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Rows {
+        public long rows;
+    }
+
+    @Benchmark
+    public long snapshot(ConnectorBenchmarkState state, SnapshotState snapshot, Rows rows) {
+        snapshot.engine.run();
+        snapshot.engine.awaitPhase(EnginePhase.SNAPSHOT_COMPLETED, state.timeout());
+
+        long count = snapshot.snapshotRows.sum();
+        rows.rows += count;
+
+        return count;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.source.SourceRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Consumes one streamed change event per operation: the score is the streaming throughput in events per second.
+ * The source has to produce changes continuously while the benchmark runs: the synthetic connector does on its own,
+ * for the other sources a load thread calls the {@link ChangeEventTrigger} of the resources in a loop.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class StreamingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class StreamingState {
+        private DefaultJunitDebeziumEngine engine;
+        private BlockingQueue<SourceRecord> queue;
+        private Thread load;
+        private volatile boolean loading;
+
+        @Setup(Level.Trial)
+        public void start(ConnectorBenchmarkState state) {
+            state.startResources();
+            queue = state.newQueue();
+            engine = state.newEngine(queue);
+            engine.run();
+            engine.awaitPhase(EnginePhase.SNAPSHOT_COMPLETED, state.timeout());
+
+            state.trigger().ifPresent(trigger -> {
+                loading = true;
+                load = Thread.ofPlatform().name("benchmark-load").daemon().start(() -> {
+                    while (loading) {
+                        try {
+                            trigger.trigger();
+                        }
+                        catch (Exception e) {
+                            throw new IllegalStateException("Unable to produce a change in the source", e);
+                        }
+                    }
+                });
+            });
+        }
+
+        @TearDown(Level.Trial)
+        public void stop(ConnectorBenchmarkState state) throws InterruptedException {
+            loading = false;
+            if (load != null) {
+                load.join();
+            }
+            ConnectorBenchmarkState.close(engine);
+            state.stopResources();
+        }
+    }
+
+    @Benchmark
+    public SourceRecord streaming(ConnectorBenchmarkState state, StreamingState streaming) throws InterruptedException {
+        return state.take(streaming.queue);
+    }
+}
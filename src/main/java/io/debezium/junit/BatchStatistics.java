@@ -0,0 +1,67 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sizes of the batches handed to the test engine when running in {@link ConsumptionMode#BATCH}.
+ */
+public class BatchStatistics {
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder records = new LongAdder();
+    private final LongAccumulator maxBatchSize = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator minBatchSize = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final AtomicLong lastBatchSize = new AtomicLong();
+
+    void recordBatch(int size) {
+        batches.increment();
+        records.add(size);
+        maxBatchSize.accumulate(size);
+        minBatchSize.accumulate(size);
+        lastBatchSize.set(size);
+    }
+
+    public long batches() {
+        return batches.sum();
+    }
+
+    public long records() {
+        return records.sum();
+    }
+
+    public long maxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    public long minBatchSize() {
+        return batches() == 0 ? 0 : minBatchSize.get();
+    }
+
+    public long lastBatchSize() {
+        return lastBatchSize.get();
+    }
+
+    public double averageBatchSize() {
+        long count = batches();
+
+        return count == 0 ? 0 : (double) records() / count;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchStatistics{" +
+                "batches=" + batches() +
+                ", records=" + records() +
+                ", min=" + minBatchSize() +
+                ", max=" + maxBatchSize() +
+                ", avg=" + averageBatchSize() +
+                '}';
+    }
+}
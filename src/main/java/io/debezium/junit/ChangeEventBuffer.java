@@ -0,0 +1,130 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.connect.source.SourceRecord;
+
+/**
+ * Bounded, per-topic capture of the change events emitted by the connector under test.
+ * Every topic keeps at most {@code capacity} records, so the heap stays flat regardless of the stream volume.
+ */
+public class ChangeEventBuffer {
+    private final int capacity;
+    private final EvictionPolicy evictionPolicy;
+    private final Map<String, TopicBuffer> buffers = new ConcurrentHashMap<>();
+
+    ChangeEventBuffer(int capacity, EvictionPolicy evictionPolicy) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Buffer capacity must not be negative: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    void add(SourceRecord record) {
+        if (capacity == 0) {
+            return;
+        }
+
+        buffers.computeIfAbsent(record.topic(), ignore -> new TopicBuffer(capacity, evictionPolicy))
+                .add(record);
+    }
+
+    public Set<String> topics() {
+        return Collections.unmodifiableSet(buffers.keySet());
+    }
+
+    /**
+     * @return a snapshot of the records currently held for the topic, oldest first
+     */
+    public List<SourceRecord> records(String topic) {
+        TopicBuffer buffer = buffers.get(topic);
+
+        return buffer == null ? List.of() : buffer.snapshot();
+    }
+
+    public int size(String topic) {
+        TopicBuffer buffer = buffers.get(topic);
+
+        return buffer == null ? 0 : buffer.size();
+    }
+
+    /**
+     * @return the number of records of the topic dropped because the buffer was full
+     */
+    public long evicted(String topic) {
+        TopicBuffer buffer = buffers.get(topic);
+
+        return buffer == null ? 0 : buffer.evicted();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public EvictionPolicy evictionPolicy() {
+        return evictionPolicy;
+    }
+
+    public void clear() {
+        buffers.clear();
+    }
+
+    private static class TopicBuffer {
+        private final SourceRecord[] records;
+        private final EvictionPolicy evictionPolicy;
+        private int head;
+        private int size;
+        private long evicted;
+
+        private TopicBuffer(int capacity, EvictionPolicy evictionPolicy) {
+            this.records = new SourceRecord[capacity];
+            this.evictionPolicy = evictionPolicy;
+        }
+
+        private synchronized void add(SourceRecord record) {
+            if (size < records.length) {
+                records[(head + size) % records.length] = record;
+                size++;
+                return;
+            }
+
+            evicted++;
+
+            if (evictionPolicy == EvictionPolicy.DROP_OLDEST) {
+                records[head] = record;
+                head = (head + 1) % records.length;
+            }
+        }
+
+        private synchronized List<SourceRecord> snapshot() {
+            List<SourceRecord> snapshot = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                snapshot.add(records[(head + i) % records.length]);
+            }
+
+            return snapshot;
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private synchronized long evicted() {
+            return evicted;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import io.debezium.data.Envelope.Operation;
+
+/**
+ * Fluent definition of the change events a test expects, e.g.
+ * <pre>{@code
+ * engine.expect().onTopic(topic).withOperation(Operation.CREATE).toReceive(1_000_000).within(Duration.ofSeconds(30));
+ * engine.expect().onTopic(topic).withKey("id", 42).toReceiveInOrder(Operation.CREATE, Operation.UPDATE).within(timeout);
+ * }</pre>
+ * Only the events consumed after {@code toReceive...} are matched, and they are counted, not kept.
+ */
+public class ChangeEventExpectation {
+    private final DefaultJunitDebeziumEngine engine;
+    private String topic;
+    private Predicate<SourceRecord> filter = record -> true;
+    private Predicate<SourceRecord> failure = record -> false;
+    private String description = "change events";
+
+    ChangeEventExpectation(DefaultJunitDebeziumEngine engine) {
+        this.engine = engine;
+    }
+
+    public ChangeEventExpectation onTopic(String topic) {
+        this.topic = topic;
+        description += " on " + topic;
+
+        return this;
+    }
+
+    public ChangeEventExpectation withOperation(Operation operation) {
+        filter = filter.and(record -> JunitDebeziumEngineMetrics.operation(record) == operation);
+        description += " with operation " + operation;
+
+        return this;
+    }
+
+    /**
+     * Selects the events whose key has the field set to the value.
+     */
+    public ChangeEventExpectation withKey(String field, Object value) {
+        filter = filter.and(record -> record.key() instanceof Struct key && keyFieldEquals(key, field, value));
+        description += " with key " + field + "=" + value;
+
+        return this;
+    }
+
+    public ChangeEventExpectation matching(Predicate<SourceRecord> predicate) {
+        filter = filter.and(predicate);
+
+        return this;
+    }
+
+    /**
+     * Fails the expectation as soon as an event of the topic matches the predicate.
+     */
+    public ChangeEventExpectation failingOn(Predicate<SourceRecord> predicate) {
+        failure = failure.or(predicate);
+
+        return this;
+    }
+
+    /**
+     * Expects at least {@code count} selected events.
+     */
+    public ExpectedChangeEvents toReceive(long count) {
+        return register(new ExpectedChangeEvents(engine, count, description) {
+
+            @Override
+            String match(SourceRecord record) {
+                matched();
+
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Expects the selected events to have the operations in order, any other operation fails the expectation.
+     */
+    public ExpectedChangeEvents toReceiveInOrder(Operation... operations) {
+        return register(new ExpectedChangeEvents(engine, operations.length, description + " in order " + Arrays.toString(operations)) {
+
+            @Override
+            synchronized String match(SourceRecord record) {
+                int next = (int) received();
+                Operation operation = JunitDebeziumEngineMetrics.operation(record);
+
+                if (next >= operations.length) {
+                    return null;
+                }
+                if (operation != operations[next]) {
+                    return "expected " + operations[next] + " but received " + operation + " at position " + next;
+                }
+
+                matched();
+
+                return null;
+            }
+        });
+    }
+
+    private ExpectedChangeEvents register(ExpectedChangeEvents expected) {
+        String expectedTopic = topic;
+        Predicate<SourceRecord> selected = filter;
+        Predicate<SourceRecord> failing = failure;
+
+        expected.listen(record -> {
+            if (expectedTopic != null && !expectedTopic.equals(record.topic())) {
+                return null;
+            }
+            if (failing.test(record)) {
+                return "unexpected change event " + record;
+            }
+
+            return selected.test(record) ? expected.match(record) : null;
+        });
+
+        return expected;
+    }
+
+    private static boolean keyFieldEquals(Struct key, String name, Object value) {
+        Field field = key.schema().field(name);
+        if (field == null) {
+            return false;
+        }
+
+        Object actual = key.get(field);
+        if (actual instanceof Number number && value instanceof Number expected) {
+            return number.longValue() == expected.longValue();
+        }
+
+        return Objects.equals(actual, value);
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import org.apache.kafka.connect.source.SourceRecord;
+
+/**
+ * Receives every change event consumed by a {@link DefaultJunitDebeziumEngine}, on the engine thread.
+ * Listeners implementing {@link java.io.Closeable} are closed once the engine is stopped.
+ */
+@FunctionalInterface
+interface ChangeEventListener {
+
+    void onChangeEvent(SourceRecord record) throws InterruptedException;
+}
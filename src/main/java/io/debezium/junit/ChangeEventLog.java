@@ -0,0 +1,160 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.json.JsonConverterConfig;
+
+/**
+ * Append-only binary log of change events, read through memory-mapped regions.
+ * <p>
+ * Layout: a header ({@code magic}, {@code version}) followed by {@code [size][type][content]} entries, where a
+ * {@code SCHEMA} entry holds {@code [id][json schema]} and is written once per distinct schema, and an {@code EVENT}
+ * entry holds {@code [capture time][record timestamp][topic][key schema id][key][value schema id][value]} with
+ * schemaless JSON key and value. Byte arrays are prefixed by their length, {@code -1} standing for {@code null}.
+ * The file is split in fixed size regions, an entry never spans two of them.
+ */
+class ChangeEventLog implements Closeable {
+    static final int MAGIC = 0x44425A4C;
+    static final int VERSION = 1;
+    static final int REGION_SIZE = 64 * 1024 * 1024;
+    static final int END_OF_REGION = -1;
+    static final int NULL = -1;
+    static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    static final byte SCHEMA = 1;
+    static final byte EVENT = 2;
+
+    private static final byte[] SCHEMA_PREFIX = "{\"schema\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PAYLOAD_PREFIX = ",\"payload\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NULL_SCHEMA = "null".getBytes(StandardCharsets.UTF_8);
+
+    private final FileChannel channel;
+    private final long size;
+    private final Map<Integer, byte[]> schemas = new HashMap<>();
+    private MappedByteBuffer region;
+    private long regionStart;
+
+    ChangeEventLog(Path file) {
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            size = channel.size();
+            region = map(0);
+
+            if (region.remaining() < 2 * Integer.BYTES || region.getInt() != MAGIC) {
+                throw new IllegalArgumentException(file + " is not a change event log");
+            }
+            if (region.getInt() != VERSION) {
+                throw new IllegalArgumentException(file + " has an unsupported change event log version");
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the next event, with key and value as schema and payload JSON envelopes, {@code null} at the end of the log
+     */
+    Entry next() {
+        while (region.remaining() >= Integer.BYTES) {
+            int entrySize = region.getInt();
+
+            if (entrySize == END_OF_REGION) {
+                regionStart += REGION_SIZE;
+                region = map(regionStart);
+                continue;
+            }
+            if (entrySize == 0) {
+                return null;
+            }
+
+            if (region.get() == SCHEMA) {
+                schemas.put(region.getInt(), bytes());
+                continue;
+            }
+
+            long captureTime = region.getLong();
+            long timestamp = region.getLong();
+            String topic = new String(bytes(), StandardCharsets.UTF_8);
+            byte[] key = envelope(region.getInt(), bytes());
+            byte[] value = envelope(region.getInt(), bytes());
+
+            return new Entry(captureTime, timestamp == NO_TIMESTAMP ? null : timestamp, topic, key, value);
+        }
+
+        return null;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] envelope(int schemaId, byte[] payload) {
+        if (payload == null) {
+            return null;
+        }
+
+        byte[] schema = schemaId == NULL ? NULL_SCHEMA : schemas.get(schemaId);
+        ByteArrayOutputStream envelope = new ByteArrayOutputStream(SCHEMA_PREFIX.length + schema.length + PAYLOAD_PREFIX.length + payload.length + 1);
+        envelope.writeBytes(SCHEMA_PREFIX);
+        envelope.writeBytes(schema);
+        envelope.writeBytes(PAYLOAD_PREFIX);
+        envelope.writeBytes(payload);
+        envelope.write('}');
+
+        return envelope.toByteArray();
+    }
+
+    private byte[] bytes() {
+        int length = region.getInt();
+        if (length == NULL) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        region.get(bytes);
+
+        return bytes;
+    }
+
+    private MappedByteBuffer map(long position) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(REGION_SIZE, Math.max(size - position, 0)));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static JsonConverter converter(boolean isKey, boolean schemas) {
+        JsonConverter converter = new JsonConverter();
+        converter.configure(Map.of(JsonConverterConfig.SCHEMAS_ENABLE_CONFIG, schemas), isKey);
+
+        return converter;
+    }
+
+    record Entry(long captureTime, Long timestamp, String topic, byte[] key, byte[] value) {
+    }
+}
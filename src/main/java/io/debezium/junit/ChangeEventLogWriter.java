@@ -0,0 +1,189 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Appends change events to a memory-mapped {@link ChangeEventLog} file. Keys and values are stored as schemaless JSON,
+ * their schemas once per distinct schema, so they can be converted back to the original Connect data by
+ * {@link ReplaySourceConnector}.
+ */
+class ChangeEventLogWriter implements ChangeEventListener, Closeable {
+    private static final int MAX_SCHEMA_INSTANCES = 1_024;
+
+    private final FileChannel channel;
+    private final JsonConverter keyConverter = ChangeEventLog.converter(true, false);
+    private final JsonConverter valueConverter = ChangeEventLog.converter(false, false);
+    private final ObjectMapper mapper = new ObjectMapper();
+    // equal schemas share an id, the identity cache only saves their deep equals and hash code on every record
+    private final Map<Schema, Integer> schemaIds = new HashMap<>();
+    private final Map<Schema, Integer> schemaInstances = new IdentityHashMap<>();
+    private MappedByteBuffer region;
+    private long regionStart;
+
+    ChangeEventLogWriter(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            region = channel.map(FileChannel.MapMode.READ_WRITE, 0, ChangeEventLog.REGION_SIZE);
+            region.putInt(ChangeEventLog.MAGIC);
+            region.putInt(ChangeEventLog.VERSION);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void onChangeEvent(SourceRecord record) {
+        append(record);
+    }
+
+    synchronized void append(SourceRecord record) {
+        int keySchema = schemaId(record.keySchema());
+        int valueSchema = schemaId(record.valueSchema());
+        byte[] topic = record.topic().getBytes(StandardCharsets.UTF_8);
+        byte[] key = record.key() == null ? null : keyConverter.fromConnectData(record.topic(), record.keySchema(), record.key());
+        byte[] value = record.value() == null ? null : valueConverter.fromConnectData(record.topic(), record.valueSchema(), record.value());
+        long timestamp = record.timestamp() == null ? ChangeEventLog.NO_TIMESTAMP : record.timestamp();
+
+        reserve(1 + 2 * Long.BYTES + length(topic) + Integer.BYTES + length(key) + Integer.BYTES + length(value));
+        region.put(ChangeEventLog.EVENT);
+        region.putLong(System.currentTimeMillis());
+        region.putLong(timestamp);
+        put(topic);
+        region.putInt(keySchema);
+        put(key);
+        region.putInt(valueSchema);
+        put(value);
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            long size = regionStart + region.position();
+            region.force();
+            channel.truncate(size);
+            channel.close();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        finally {
+            keyConverter.close();
+            valueConverter.close();
+        }
+    }
+
+    private int schemaId(Schema schema) {
+        if (schema == null) {
+            return ChangeEventLog.NULL;
+        }
+
+        Integer id = schemaInstances.get(schema);
+        if (id != null) {
+            return id;
+        }
+
+        id = schemaIds.get(schema);
+        if (id != null) {
+            cache(schema, id);
+            return id;
+        }
+
+        try {
+            id = schemaIds.size();
+            byte[] json = mapper.writeValueAsBytes(valueConverter.asJsonSchema(schema));
+
+            reserve(1 + Integer.BYTES + length(json));
+            region.put(ChangeEventLog.SCHEMA);
+            region.putInt(id);
+            put(json);
+            schemaIds.put(schema, id);
+            cache(schema, id);
+
+            return id;
+        }
+        catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize schema " + schema, e);
+        }
+    }
+
+    /**
+     * Connectors rebuilding equal schemas per record would grow the identity cache without bound, it is reset instead.
+     */
+    private void cache(Schema schema, int id) {
+        if (schemaInstances.size() >= MAX_SCHEMA_INSTANCES) {
+            schemaInstances.clear();
+        }
+        schemaInstances.put(schema, id);
+    }
+
+    /**
+     * Writes the size of the next entry, moving to a new region first if the entry doesn't fit in the current one.
+     */
+    private void reserve(int entrySize) {
+        if (Integer.BYTES + entrySize + Integer.BYTES > ChangeEventLog.REGION_SIZE) {
+            throw new IllegalArgumentException("Change event of " + entrySize + " bytes exceeds the log region size");
+        }
+
+        if (region.remaining() < Integer.BYTES + entrySize + Integer.BYTES) {
+            region.putInt(ChangeEventLog.END_OF_REGION);
+            nextRegion();
+        }
+
+        region.putInt(entrySize);
+    }
+
+    private void nextRegion() {
+        try {
+            region.force();
+            regionStart += ChangeEventLog.REGION_SIZE;
+            region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, ChangeEventLog.REGION_SIZE);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void put(byte[] bytes) {
+        if (bytes == null) {
+            region.putInt(ChangeEventLog.NULL);
+            return;
+        }
+
+        region.putInt(bytes.length);
+        region.put(bytes);
+    }
+
+    private static int length(byte[] bytes) {
+        return Integer.BYTES + (bytes == null ? 0 : bytes.length);
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+public enum ConsumptionMode {
+    /**
+     * Records are delivered one by one through {@code notifying(Consumer)}, offsets are committed by the engine.
+     */
+    RECORD,
+
+    /**
+     * Records are delivered as whole batches through a {@code DebeziumEngine.ChangeConsumer},
+     * offsets are committed once per batch.
+     */
+    BATCH
+}
@@ -1,6 +1,7 @@
 package io.debezium.junit;
 
 import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
@@ -13,13 +14,109 @@ import io.debezium.engine.DebeziumEngine;
 @Target(ElementType.TYPE)
 @ExtendWith({ DebeziumTestEngineExtension.class })
 @Retention(RetentionPolicy.RUNTIME)
+@Repeatable(DebeziumIntegrationTests.class)
 public @interface DebeziumIntegrationTest {
     Class<? extends SourceConnector> value();
 
+    /**
+     * Name the engine is injected by with {@link EngineName}, defaults to the connector simple name.
+     */
+    String name() default "";
+
     Class<? extends DebeziumTestResourceLifecycleManager>[] resources() default {};
 
     DebeziumConfiguration[] configuration() default {};
 
     Class<? extends DebeziumEngine.ConnectorCallback> connectorCallback() default NoOpConnectorCallback.class;
 
+    /**
+     * Maximum number of change events captured per topic, {@code 0} disables the capture.
+     */
+    int bufferCapacity() default 1024;
+
+    EvictionPolicy evictionPolicy() default EvictionPolicy.DROP_OLDEST;
+
+    ConsumptionMode consumptionMode() default ConsumptionMode.RECORD;
+
+    /**
+     * Phase the engine has to reach before being injected in a test.
+     */
+    EnginePhase awaitPhase() default EnginePhase.CONNECTOR_STARTED;
+
+    long startupTimeoutMillis() default 5_000;
+
+    /**
+     * With {@link EngineScope#SUITE} resources and engine are reused by every test class declaring the same
+     * connector, resources and configuration, and released when the suite ends.
+     */
+    EngineScope scope() default EngineScope.CLASS;
+
+    OffsetStorage offsetStorage() default OffsetStorage.MEMORY;
+
+    /**
+     * Name of the {@link OffsetStorage#FILE} offset and schema history files, defaults to the engine name, or to
+     * the isolation id of an {@link #isolated()} engine.
+     * Engines using the same key resume from each other's offsets.
+     */
+    String offsetStorageKey() default "";
+
+    /**
+     * File the consumed change events are recorded to, to be replayed later with {@link ReplaySourceConnector}.
+     * Empty to disable the recording.
+     */
+    String recordTo() default "";
+
+    ExecutorStrategy executor() default ExecutorStrategy.PLATFORM;
+
+    /**
+     * Derives the engine name, topic prefix, Postgres replication slot, MySQL server id and offset storage key from the
+     * test class and engine names, so test classes can run in parallel against the same resources.
+     * With {@link EngineScope#SUITE} they are derived from the engine name only.
+     */
+    boolean isolated() default false;
+
+    EngineImplementation engine() default EngineImplementation.EMBEDDED;
+
+    /**
+     * Threads processing the records of the {@link EngineImplementation#ASYNC} engine, {@code 0} for the number of processors.
+     */
+    int processingThreads() default 0;
+
+    DeliveryOrder deliveryOrder() default DeliveryOrder.ORDERED;
+
+    /**
+     * Maximum number of tasks of the connector, only the {@link EngineImplementation#ASYNC} engine runs more than one.
+     * {@code 0} leaves {@code tasks.max} to the configuration. With several tasks the snapshot and streaming phases are
+     * reached once every task reached them.
+     */
+    int tasks() default 0;
+
+    /**
+     * Records the test class with Java Flight Recorder, from {@code beforeAll} to {@code afterAll}, in
+     * {@code target/junit-debezium/jfr}, and publishes a summary of allocations, GC pauses and hot methods of the
+     * connector threads. Enabled by any of the engines of the class.
+     */
+    boolean profile() default false;
+
+    /**
+     * Transforms applied by the test engine to the captured records, in order, each one timed in
+     * {@link JunitDebeziumEngineMetrics#pipeline()}.
+     */
+    Transform[] transforms() default {};
+
+    TransformPredicate[] predicates() default {};
+
+    /**
+     * Format the transformed records are serialized to, configured with the {@code converter.*} properties.
+     */
+    OutputFormat format() default OutputFormat.CONNECT;
+
+    /**
+     * Samples the memory and thread footprint of the JVM while the engine runs and looks for the threads it leaks once
+     * closed, see {@link JunitDebeziumEngineMetrics#footprint()}. Always enabled in classes with a {@link PerformanceBudget}.
+     */
+    boolean footprint() default false;
+
+    Startup startup() default Startup.DEFAULT;
+
 }
@@ -0,0 +1,24 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Container of the {@link DebeziumIntegrationTest} declarations of a test class running several engines.
+ */
+@Target(ElementType.TYPE)
+@ExtendWith({ DebeziumTestEngineExtension.class })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DebeziumIntegrationTests {
+    DebeziumIntegrationTest[] value();
+}
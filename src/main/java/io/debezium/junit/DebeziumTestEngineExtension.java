@@ -1,54 +1,102 @@
 package io.debezium.junit;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.awaitility.Awaitility;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import io.debezium.DebeziumException;
+import io.debezium.embedded.async.AsyncEngineConfig;
 import io.debezium.engine.DebeziumEngine.ConnectorCallback;
 
 public class DebeziumTestEngineExtension implements BeforeAllCallback, AfterAllCallback, ExecutionCondition, ParameterResolver {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumTestEngineExtension.class);
+    private static final long MB = 1024 * 1024;
+    private static final Namespace NAMESPACE = Namespace.create(DebeziumTestEngineExtension.class);
+    private static final String ENGINES = "engines";
+    private static final String BUDGET = "budget";
+    private static final String PROFILE = "profile";
+    private static final Path OFFSET_STORAGE_DIRECTORY = Path.of("target", "junit-debezium", "offsets");
 
-    private JunitDebeziumEngine engine;
-    private List<DebeziumTestResourceLifecycleManager> resources;
-
-    private Map<String, String> getAdditionalConfiguration(Class<?> testClass) {
-        DebeziumIntegrationTest annotation = testClass.getAnnotation(DebeziumIntegrationTest.class);
-
-        if (annotation == null) {
-            return Collections.emptyMap();
-        }
+    private static String getEngineName(DebeziumIntegrationTest annotation) {
+        return annotation.name().isEmpty() ? annotation.value().getSimpleName() : annotation.name();
+    }
 
-        return Arrays.stream(annotation.configuration())
+    private EngineDefinition getEngineDefinition(DebeziumIntegrationTest annotation, Class<?> testClass) {
+        Map<String, String> configuration = Arrays.stream(annotation.configuration())
                 .map(a -> Map.entry(a.name(), a.value()))
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (v1, v2) -> v2));
-    }
 
-    private List<DebeziumTestResourceLifecycleManager> getResources(Class<?> testClass) {
-        DebeziumIntegrationTest annotation = testClass.getAnnotation(DebeziumIntegrationTest.class);
-
-        if (annotation == null) {
-            return Collections.emptyList();
+        // engine options are defaults, the configuration of the annotation wins
+        if (annotation.tasks() > 0) {
+            configuration.putIfAbsent("tasks.max", String.valueOf(annotation.tasks()));
+        }
+        if (annotation.engine() == EngineImplementation.ASYNC) {
+            configuration.putIfAbsent(AsyncEngineConfig.RECORD_PROCESSING_ORDER.name(), annotation.deliveryOrder().name());
+            if (annotation.processingThreads() > 0) {
+                configuration.putIfAbsent(AsyncEngineConfig.RECORD_PROCESSING_THREADS.name(), String.valueOf(annotation.processingThreads()));
+            }
         }
+        String name = getEngineName(annotation);
+        String isolationId = !annotation.isolated() ? ""
+                : annotation.scope() == EngineScope.SUITE ? name
+                : testClass.getSimpleName() + "-" + EngineDefinition.shortHash(testClass.getName()) + "-" + name;
+        String offsetStorageKey = !annotation.offsetStorageKey().isEmpty() ? annotation.offsetStorageKey()
+                : annotation.isolated() ? isolationId
+                : name;
 
-        return Arrays.stream(annotation.resources())
-                .sequential()
+        return new EngineDefinition(name,
+                annotation.value(),
+                List.of(annotation.resources()),
+                configuration,
+                annotation.connectorCallback(),
+                annotation.bufferCapacity(),
+                annotation.evictionPolicy(),
+                annotation.consumptionMode(),
+                annotation.offsetStorage(),
+                offsetStorageKey,
+                annotation.recordTo(),
+                annotation.executor(),
+                annotation.engine(),
+                List.of(annotation.transforms()),
+                List.of(annotation.predicates()),
+                annotation.format(),
+                annotation.footprint() || testClass.isAnnotationPresent(PerformanceBudget.class),
+                isolationId);
+    }
+
+    private List<DebeziumTestResourceLifecycleManager> getResources(EngineDefinition definition) {
+        return definition.resources()
+                .stream()
                 .map(clazz -> {
                     try {
                         return (DebeziumTestResourceLifecycleManager) clazz.getDeclaredConstructor().newInstance();
@@ -64,77 +112,489 @@ public class DebeziumTestEngineExtension implements BeforeAllCallback, AfterAllC
     @Override
     public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
         return context.getTestClass()
-                .map(testClass -> testClass.getAnnotation(DebeziumIntegrationTest.class))
+                .filter(testClass -> !AnnotationSupport.findRepeatableAnnotations(testClass, DebeziumIntegrationTest.class).isEmpty())
                 .map(clazz -> ConditionEvaluationResult.enabled("Test enabled"))
                 .orElse(ConditionEvaluationResult.disabled("SourceConnector not found"));
     }
 
-    private Optional<JunitDebeziumEngine> getEngineProcess(Class<?> testClass, Map<String, String> configuration) throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        DebeziumIntegrationTest annotation = testClass.getAnnotation(DebeziumIntegrationTest.class);
+    private DefaultJunitDebeziumEngine getEngineProcess(EngineDefinition definition, Map<String, String> configuration,
+                                                        ExecutorService executorService) {
+        try {
+            ConnectorCallback connectorCallback = definition.connectorCallback()
+                    .getDeclaredConstructor()
+                    .newInstance();
+
+            ChangeEventBuffer changeEventBuffer = new ChangeEventBuffer(definition.bufferCapacity(), definition.evictionPolicy());
+
+            RecordPipeline pipeline = RecordPipeline.of(definition.transforms(), definition.predicates(), definition.format(), configuration);
+
+            return new DefaultJunitDebeziumEngine(definition.connector(), configuration, connectorCallback, changeEventBuffer,
+                    definition.consumptionMode(), definition.implementation(), executorService, pipeline, definition.footprint());
+        } catch (NoSuchMethodException | InvocationTargetException | InstantiationException |
+                 IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private StartedResources startResources(EngineDefinition definition) {
+        TestResources resources = new TestResources(getResources(definition));
+        long start = System.nanoTime();
+        Map<String, String> configuration = resources.start();
+
+        return new StartedResources(resources, configuration, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private StartedEngine startEngine(EngineDefinition definition, Map<String, String> resourcesConfiguration,
+                                      ExecutorService executorService, PerformanceBudget budget) {
+        long heapBefore = PerformanceBudgetCheck.heapBeforeEngine(budget);
+        Map<String, Duration> timings = new LinkedHashMap<>();
+        long start = System.nanoTime();
 
-        if (annotation == null) {
-            return Optional.empty();
+        Map<String, String> offsetConfiguration = definition.offsetStorage()
+                .configuration(OFFSET_STORAGE_DIRECTORY.toAbsolutePath(), definition.offsetStorageKey(), resourcesConfiguration);
+
+        if (definition.offsetStorage() == OffsetStorage.FILE) {
+            try {
+                Files.createDirectories(OFFSET_STORAGE_DIRECTORY);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
         }
 
-        ConnectorCallback connectorCallback = annotation.connectorCallback()
-                .getDeclaredConstructor()
-                .newInstance();
+        Map<String, String> mergedConfiguration = Stream.of(definition.configuration(), resourcesConfiguration,
+                        definition.isolationConfiguration(), offsetConfiguration)
+                .flatMap(map -> map.entrySet().stream())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (v1, v2) -> v1));
+        start = lap(timings, "configuration", start);
+
+        DefaultJunitDebeziumEngine engine = getEngineProcess(definition, mergedConfiguration, executorService);
+
+        if (!definition.recordTo().isEmpty()) {
+            engine.addListener(new ChangeEventLogWriter(Path.of(definition.recordTo())));
+        }
+        start = lap(timings, "construction", start);
 
-        return Optional.of(new DefaultJunitDebeziumEngine(annotation.value(), configuration, connectorCallback));
+        engine.run();
+        lap(timings, "run", start);
 
+        return new StartedEngine(definition.name(), engine, timings, budget, heapBefore);
     }
 
     @Override
     public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws ParameterResolutionException {
-        return parameterContext.getParameter().getType().equals(JunitDebeziumEngine.class);
+        Class<?> type = parameterContext.getParameter().getType();
+
+        return type.equals(JunitDebeziumEngine.class) || type.equals(JunitDebeziumEngineMetrics.class) || type.equals(ExecutorStatistics.class)
+                || type.equals(NetworkProxy.class);
     }
 
     @Override
     public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws ParameterResolutionException {
-        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> engine.isRunning());
+        Map<String, DeclaredEngine> engines = getEngines(extensionContext);
+
+        if (engines.isEmpty()) {
+            throw new ParameterResolutionException("Debezium engine not started");
+        }
+
+        Optional<String> name = parameterContext.findAnnotation(EngineName.class).map(EngineName::value);
+        if (name.isEmpty() && engines.size() > 1) {
+            throw new ParameterResolutionException("Several Debezium engines declared, select one of " + engines.keySet() + " with @EngineName");
+        }
+
+        DeclaredEngine declared = name.map(engines::get).orElseGet(() -> engines.values().iterator().next());
+        if (declared == null) {
+            throw new ParameterResolutionException("Debezium engine " + name.get() + " not declared, available engines are " + engines.keySet());
+        }
+
+        Running running;
+        try {
+            running = declared.start();
+        }
+        catch (RuntimeException e) {
+            throw new ParameterResolutionException("Debezium engine " + declared.name() + " failed to start", e);
+        }
+
+        JunitDebeziumEngine engine = running.engine();
+        try {
+            engine.awaitPhase(declared.annotation().awaitPhase(), Duration.ofMillis(declared.annotation().startupTimeoutMillis()));
+        }
+        catch (DebeziumException e) {
+            throw new ParameterResolutionException("Debezium engine not ready", e);
+        }
+
+        if (parameterContext.getParameter().getType().equals(JunitDebeziumEngineMetrics.class)) {
+            return engine.getMetrics();
+        }
+
+        if (parameterContext.getParameter().getType().equals(ExecutorStatistics.class)) {
+            return running.executor();
+        }
+
+        if (parameterContext.getParameter().getType().equals(NetworkProxy.class)) {
+            List<NetworkProxy> proxies = running.resources()
+                    .stream()
+                    .filter(ProxiedResource.class::isInstance)
+                    .map(resource -> ((ProxiedResource) resource).proxy())
+                    .toList();
+            if (proxies.size() != 1) {
+                throw new ParameterResolutionException("A NetworkProxy is injected for exactly one ProxiedResource, found " + proxies.size());
+            }
+
+            return proxies.get(0);
+        }
 
         return engine;
     }
 
     @Override
     public void beforeAll(ExtensionContext context) throws Exception {
-        Map<String, String> additionalConfiguration = context.getTestClass()
-                .map(this::getAdditionalConfiguration)
-                .orElse(Collections.emptyMap());
+        List<DebeziumIntegrationTest> annotations = AnnotationSupport.findRepeatableAnnotations(context.getRequiredTestClass(),
+                DebeziumIntegrationTest.class);
+        Map<String, DeclaredEngine> engines = new LinkedHashMap<>();
+        Startup defaultStartup = context.getConfigurationParameter(Startup.DEFAULT_STARTUP, value -> Startup.valueOf(value.toUpperCase()))
+                .orElse(Startup.EAGER);
+
+        if (annotations.stream().anyMatch(DebeziumIntegrationTest::profile)) {
+            context.getStore(NAMESPACE).put(PROFILE, new Profile(FlightRecording.start(context.getRequiredTestClass().getName()), new ConcurrentHashMap<>()));
+        }
+
+        PerformanceBudget budget = context.getRequiredTestClass().getAnnotation(PerformanceBudget.class);
+        if (budget != null) {
+            context.getStore(NAMESPACE).put(BUDGET, new PerformanceBudgetCheck(budget));
+        }
+
+        context.getStore(NAMESPACE).put(ENGINES, engines);
+
+        for (DebeziumIntegrationTest annotation : annotations) {
+            EngineDefinition definition = getEngineDefinition(annotation, context.getRequiredTestClass());
+
+            if (engines.containsKey(definition.name())) {
+                throw new ExtensionConfigurationException("Debezium engine " + definition.name() + " declared twice, give them distinct names");
+            }
+
+            DeclaredEngine declared = new DeclaredEngine(definition.name(), annotation, () -> start(context, annotation, definition));
+            engines.put(definition.name(), declared);
+
+            Startup startup = annotation.startup() == Startup.DEFAULT ? defaultStartup : annotation.startup();
+            if (startup == Startup.EAGER) {
+                declared.start();
+            }
+        }
+    }
 
-        resources = context.getTestClass()
-                .map(this::getResources)
+    /**
+     * Starts the executor, the resources and the engine, or reuses those of another class in the same store.
+     */
+    private Running start(ExtensionContext context, DebeziumIntegrationTest annotation, EngineDefinition definition) {
+        Instant requested = Instant.now();
+
+        // executor, resources and engines live in the store they are scoped to and are closed, in reverse order, when it is closed
+        Store store = annotation.scope() == EngineScope.SUITE
+                ? context.getRoot().getStore(NAMESPACE)
+                : context.getStore(NAMESPACE);
+        Store executorStore = annotation.executor() == ExecutorStrategy.SHARED
+                ? context.getRoot().getStore(NAMESPACE)
+                : store;
+
+        EngineExecutor executor = executorStore.getOrComputeIfAbsent(annotation.executor(),
+                strategy -> new EngineExecutor(annotation.executor(), getSharedThreads(context)), EngineExecutor.class);
+        StartedResources resources = store.getOrComputeIfAbsent(definition.resourcesKey(),
+                ignore -> startResources(definition), StartedResources.class);
+        publishSeeded(context, resources.resources().seeded());
+        recordEventsBefore(context, definition.name(), store.get(definition, StartedEngine.class));
+        // a suite engine is closed with the root store, where a failed budget can't be attributed to a class
+        PerformanceBudget closedBudget = annotation.scope() == EngineScope.SUITE
+                ? null
+                : context.getRequiredTestClass().getAnnotation(PerformanceBudget.class);
+        StartedEngine engine = store.getOrComputeIfAbsent(definition,
+                ignore -> startEngine(definition, resources.configuration(), executor.executorService(), closedBudget), StartedEngine.class);
+        publishStartup(context, definition.name(), resources, engine);
+
+        return new Running(engine.engine(), executor.statistics(), resources.resources().resources(), requested, Instant.now());
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        publishReadiness(context);
+
+        PerformanceBudgetCheck budget = context.getStore(NAMESPACE).remove(BUDGET, PerformanceBudgetCheck.class);
+        Map<String, JunitDebeziumEngine> engines = getRunningEngines(context).entrySet()
                 .stream()
-                .flatMap(Collection::stream)
-                .toList();
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().engine(), (v1, v2) -> v1, LinkedHashMap::new));
 
-        Map<String, String> configuration = resources
+        getRunningEngines(context).values()
                 .stream()
-                .map(DebeziumTestResourceLifecycleManager::start)
-                .flatMap(configurations -> configurations.entrySet().stream())
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (v1, v2) -> v2));
+                .map(Running::executor)
+                .distinct()
+                .forEach(executor -> {
+                    String prefix = "debezium.executor." + executor.strategy().name().toLowerCase() + ".";
+                    context.publishReportEntry(Map.of(
+                            prefix + "created", String.valueOf(executor.created()),
+                            prefix + "peak", String.valueOf(executor.peak()),
+                            prefix + "active", String.valueOf(executor.active())));
+                });
 
-        Map<String, String> mergedConfiguration = Stream.of(additionalConfiguration, configuration)
-                .flatMap(map -> map.entrySet().stream())
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (v1, v2) -> v1));
+        engines.forEach((name, engine) -> publishPipeline(context, name, engine.getMetrics().pipeline()));
+        engines.forEach((name, engine) -> publishFootprint(context, name, engine.getMetrics().footprint()));
 
-        engine = context.getTestClass()
-                .flatMap(clazz -> {
-                    try {
-                        return getEngineProcess(clazz, mergedConfiguration);
-                    } catch (NoSuchMethodException | InvocationTargetException | InstantiationException |
-                             IllegalAccessException e) {
-                        throw new RuntimeException(e);
-                    }
-                })
-                .orElseThrow();
+        // published before the budget is verified, a failing budget is investigated with the profile
+        publishProfile(context, engines);
 
-        engine.run();
+        if (budget != null && !engines.isEmpty()) {
+            budget.verify(engines, context::publishReportEntry);
+        }
     }
 
-    @Override
-    public void afterAll(ExtensionContext context) throws Exception {
-        engine.close();
-        resources.forEach(DebeziumTestResourceLifecycleManager::stop);
+    /**
+     * Engines shared with previous classes count the events consumed before the recording started.
+     */
+    private static void recordEventsBefore(ExtensionContext context, String name, StartedEngine reused) {
+        Profile profile = context.getStore(NAMESPACE).get(PROFILE, Profile.class);
+
+        if (profile != null) {
+            profile.eventsBefore().put(name, reused == null ? 0 : reused.engine().getMetrics().events());
+        }
+    }
+
+    private static void publishProfile(ExtensionContext context, Map<String, JunitDebeziumEngine> engines) {
+        Profile profile = context.getStore(NAMESPACE).remove(PROFILE, Profile.class);
+        if (profile == null) {
+            return;
+        }
+
+        long events = engines.entrySet()
+                .stream()
+                .mapToLong(entry -> entry.getValue().getMetrics().events() - profile.eventsBefore().getOrDefault(entry.getKey(), 0L))
+                .sum();
+
+        context.publishReportEntry(profile.recording().stop().reportEntries(events));
+    }
+
+    /**
+     * Publishes the time taken by every setup step of an engine, reused resources and engines report their first setup.
+     */
+    private static void publishStartup(ExtensionContext context, String name, StartedResources resources, StartedEngine engine) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        String prefix = "debezium.startup." + name + ".";
+
+        entries.put(prefix + "resources", String.valueOf(resources.startup().toMillis()));
+        resources.resources().startupTimes()
+                .forEach((resource, duration) -> entries.put(prefix + "resource." + resource, String.valueOf(duration.toMillis())));
+        engine.timings().forEach((step, duration) -> entries.put(prefix + step, String.valueOf(duration.toMillis())));
+
+        context.publishReportEntry(entries);
+    }
+
+    /**
+     * Publishes the time the engines took to reach their phases and first event, and adds the class setup, from the
+     * first engine start until every engine reached the phase it is awaited for, to the suite summary. Lazy engines
+     * never started are reported as skipped.
+     */
+    private static void publishReadiness(ExtensionContext context) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        Instant started = null;
+        Instant ready = null;
+
+        for (DeclaredEngine declared : getEngines(context).values()) {
+            String prefix = "debezium.startup." + declared.name() + ".";
+            Optional<Running> running = declared.running();
+            if (running.isEmpty()) {
+                entries.put(prefix + "skipped", "true");
+                continue;
+            }
+
+            JunitDebeziumEngine engine = running.get().engine();
+            JunitDebeziumEngineMetrics metrics = engine.getMetrics();
+
+            metrics.phases().forEach((phase, duration) -> entries.put(prefix + phase.name().toLowerCase(), String.valueOf(duration.toMillis())));
+            metrics.timeToFirstEvent().ifPresent(duration -> entries.put(prefix + "firstEvent", String.valueOf(duration.toMillis())));
+
+            Instant engineReady = engine.getLifecycle()
+                    .reachedAt(declared.annotation().awaitPhase())
+                    .filter(reached -> reached.isAfter(running.get().completed()))
+                    .orElse(running.get().completed());
+            started = started == null || running.get().requested().isBefore(started) ? running.get().requested() : started;
+            ready = ready == null || engineReady.isAfter(ready) ? engineReady : ready;
+        }
+
+        if (started == null) {
+            if (!entries.isEmpty()) {
+                context.publishReportEntry(entries);
+            }
+            return;
+        }
+
+        Duration classSetup = Duration.between(started, ready);
+        entries.put("debezium.startup.class", String.valueOf(classSetup.toMillis()));
+        context.publishReportEntry(entries);
+
+        context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(StartupSummary.class, ignore -> new StartupSummary(), StartupSummary.class)
+                .add(context.getRequiredTestClass().getName(), classSetup);
+    }
+
+    private static void publishFootprint(ExtensionContext context, String name, Footprint footprint) {
+        Optional<FootprintSample> peak = footprint.peak();
+        if (peak.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> entries = new LinkedHashMap<>();
+        String prefix = "debezium.footprint." + name + ".";
+        entries.put(prefix + "peak.heapMb", String.valueOf(peak.get().heapUsed() / MB));
+        entries.put(prefix + "peak.directMb", String.valueOf(peak.get().directUsed() / MB));
+        entries.put(prefix + "peak.metaspaceMb", String.valueOf(peak.get().metaspaceUsed() / MB));
+        entries.put(prefix + "peak.engineThreads", String.valueOf(peak.get().engineThreads()));
+        footprint.growth().forEach((phase, growth) -> {
+            String phasePrefix = prefix + phase.name().toLowerCase() + ".";
+            entries.put(phasePrefix + "heapKb", String.valueOf(growth.heapUsed() / 1024));
+            entries.put(phasePrefix + "directKb", String.valueOf(growth.directUsed() / 1024));
+            entries.put(phasePrefix + "engineThreads", String.valueOf(growth.engineThreads()));
+        });
+        context.publishReportEntry(entries);
+    }
+
+    private static void publishPipeline(ExtensionContext context, String name, List<PipelineStageStatistics> stages) {
+        if (stages.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (PipelineStageStatistics stage : stages) {
+            String prefix = "debezium.pipeline." + name + "." + stage.name() + ".";
+            entries.put(prefix + "records", String.valueOf(stage.records()));
+            entries.put(prefix + "nanosPerRecord", String.format("%.1f", stage.nanosPerRecord()));
+            entries.put(prefix + "allocatedBytesPerRecord", String.format("%.1f", stage.allocatedBytesPerRecord()));
+        }
+        context.publishReportEntry(entries);
+    }
+
+    private static void publishSeeded(ExtensionContext context, List<FixtureStatistics> seeded) {
+        if (seeded.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (FixtureStatistics fixture : seeded) {
+            String prefix = "debezium.seed." + fixture.table() + ".";
+            entries.put(prefix + "rows", String.valueOf(fixture.rows()));
+            entries.put(prefix + "millis", String.valueOf(fixture.duration().toMillis()));
+            entries.put(prefix + "rowsPerSecond", String.format("%.1f", fixture.rowsPerSecond()));
+        }
+        context.publishReportEntry(entries);
+    }
+
+    private static int getSharedThreads(ExtensionContext context) {
+        return context.getConfigurationParameter(EngineExecutor.SHARED_THREADS, Integer::parseInt)
+                .orElse(Runtime.getRuntime().availableProcessors());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, DeclaredEngine> getEngines(ExtensionContext context) {
+        Map<String, DeclaredEngine> engines = context.getStore(NAMESPACE).get(ENGINES, Map.class);
+
+        return engines == null ? Map.of() : engines;
+    }
+
+    /**
+     * @return the declared engines that were started, lazy ones may never be
+     */
+    private static Map<String, Running> getRunningEngines(ExtensionContext context) {
+        Map<String, Running> running = new LinkedHashMap<>();
+        getEngines(context).forEach((name, declared) -> declared.running().ifPresent(engine -> running.put(name, engine)));
+
+        return running;
+    }
+
+    private record Profile(FlightRecording recording, Map<String, Long> eventsBefore) implements CloseableResource {
+
+        @Override
+        public void close() {
+            recording.close();
+        }
+    }
+
+    /**
+     * Engine declared by the test class, started once, before the tests when eager or on the first parameter
+     * resolution when lazy. A failed start is rethrown to every test resolving the engine.
+     */
+    static class DeclaredEngine {
+        private final String name;
+        private final DebeziumIntegrationTest annotation;
+        private final Supplier<Running> starter;
+        private Running running;
+        private RuntimeException failure;
+
+        DeclaredEngine(String name, DebeziumIntegrationTest annotation, Supplier<Running> starter) {
+            this.name = name;
+            this.annotation = annotation;
+            this.starter = starter;
+        }
+
+        String name() {
+            return name;
+        }
+
+        DebeziumIntegrationTest annotation() {
+            return annotation;
+        }
+
+        synchronized Running start() {
+            if (failure != null) {
+                throw failure;
+            }
+            if (running == null) {
+                try {
+                    running = starter.get();
+                }
+                catch (RuntimeException e) {
+                    failure = e;
+                    throw e;
+                }
+            }
+
+            return running;
+        }
+
+        synchronized Optional<Running> running() {
+            return Optional.ofNullable(running);
+        }
+    }
+
+    record Running(JunitDebeziumEngine engine, ExecutorStatistics executor, List<DebeziumTestResourceLifecycleManager> resources,
+                   Instant requested, Instant completed) {
+    }
+
+    private static long lap(Map<String, Duration> timings, String name, long start) {
+        long now = System.nanoTime();
+        timings.put(name, Duration.ofNanos(now - start));
+
+        return now;
+    }
+
+    private record StartedResources(TestResources resources, Map<String, String> configuration, Duration startup) implements CloseableResource {
+
+        @Override
+        public void close() {
+            resources.stop();
+        }
+    }
+
+    private record StartedEngine(String name, JunitDebeziumEngine engine, Map<String, Duration> timings, PerformanceBudget budget,
+                                 long heapBefore) implements CloseableResource {
+
+        @Override
+        public void close() throws IOException {
+            engine.close();
+
+            List<String> leaked = engine.getMetrics().footprint().leakedThreads();
+            if (!leaked.isEmpty()) {
+                LOGGER.warn("Debezium engine {} left {} threads running once closed: {}", name, leaked.size(), leaked);
+            }
+            if (budget != null) {
+                PerformanceBudgetCheck.verifyClosed(budget, name, engine, heapBefore);
+            }
+        }
     }
 }
@@ -1,5 +1,6 @@
 package io.debezium.junit;
 
+import java.util.List;
 import java.util.Map;
 
 public interface DebeziumTestResourceLifecycleManager {
@@ -7,4 +8,12 @@ public interface DebeziumTestResourceLifecycleManager {
     Map<String, String> start();
 
     void stop();
+
+    /**
+     * Resources, declared on the same test, that have to be started before this one and stopped after it.
+     * All other resources are started and stopped concurrently.
+     */
+    default List<Class<? extends DebeziumTestResourceLifecycleManager>> dependsOn() {
+        return List.of();
+    }
 }
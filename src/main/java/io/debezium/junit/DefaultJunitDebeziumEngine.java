@@ -2,38 +2,53 @@ package io.debezium.junit;
 
 import static io.debezium.embedded.EmbeddedEngineConfig.OFFSET_STORAGE;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.kafka.connect.source.SourceConnector;
 import org.apache.kafka.connect.source.SourceRecord;
-import org.awaitility.Awaitility;
-import org.awaitility.core.ConditionTimeoutException;
 
+import io.debezium.DebeziumException;
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.Configuration;
 import io.debezium.embedded.Connect;
 import io.debezium.embedded.EmbeddedEngineConfig;
+import io.debezium.embedded.async.ConvertingAsyncEngineBuilderFactory;
 import io.debezium.engine.DebeziumEngine;
 import io.debezium.engine.RecordChangeEvent;
 import io.debezium.engine.format.ChangeEventFormat;
+import io.debezium.pipeline.notification.channels.SinkNotificationChannel;
 
 class DefaultJunitDebeziumEngine implements JunitDebeziumEngine {
-    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
-    private final AtomicBoolean isEngineRunning = new AtomicBoolean(false);
+    private final ExecutorService executorService;
+    private final boolean ownsExecutorService;
     private final DebeziumEngine<RecordChangeEvent<SourceRecord>> engine;
 
     private final Class<?> sourceConnectorClass;
+    private final static Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+    private final static String TASKS_MAX = "tasks.max";
     private final static Map<String, String> baseConfiguration;
     private final JunitEngineCallback junitEngineCallback = new JunitEngineCallback();
+    private final ChangeEventBuffer changeEventBuffer;
+    private final BatchStatistics batchStatistics = new BatchStatistics();
+    private final EngineLifecycle lifecycle = new EngineLifecycle();
+    private final Footprint footprint;
+    private final JunitDebeziumEngineMetrics metrics;
+    private final RecordPipeline pipeline;
+    private final List<ChangeEventListener> listeners = new CopyOnWriteArrayList<>();
+    private Future<?> execution;
 
     static {
         baseConfiguration = new HashMap<>();
@@ -47,44 +62,199 @@ class DefaultJunitDebeziumEngine implements JunitDebeziumEngine {
 
     DefaultJunitDebeziumEngine(Class<? extends SourceConnector> sourceConnectorClass,
                                Map<String, String> configuration,
-                               ConnectorCallback connectorCallback
+                               ConnectorCallback connectorCallback,
+                               ChangeEventBuffer changeEventBuffer,
+                               ConsumptionMode consumptionMode
     ) {
-        this.sourceConnectorClass = sourceConnectorClass;
+        this(sourceConnectorClass, configuration, connectorCallback, changeEventBuffer, consumptionMode, EngineImplementation.EMBEDDED, null);
+    }
+
+    /**
+     * @param executorService executor shared with other engines, the engine creates and shuts down its own one when {@code null}
+     */
+    DefaultJunitDebeziumEngine(Class<? extends SourceConnector> sourceConnectorClass,
+                               Map<String, String> configuration,
+                               ConnectorCallback connectorCallback,
+                               ChangeEventBuffer changeEventBuffer,
+                               ConsumptionMode consumptionMode,
+                               EngineImplementation implementation,
+                               ExecutorService executorService
+    ) {
+        this(sourceConnectorClass, configuration, connectorCallback, changeEventBuffer, consumptionMode, implementation, executorService,
+                RecordPipeline.NONE);
+    }
+
+    /**
+     * @param pipeline transforms and serialization applied to the captured records before they are buffered
+     */
+    DefaultJunitDebeziumEngine(Class<? extends SourceConnector> sourceConnectorClass,
+                               Map<String, String> configuration,
+                               ConnectorCallback connectorCallback,
+                               ChangeEventBuffer changeEventBuffer,
+                               ConsumptionMode consumptionMode,
+                               EngineImplementation implementation,
+                               ExecutorService executorService,
+                               RecordPipeline pipeline
+    ) {
+        this(sourceConnectorClass, configuration, connectorCallback, changeEventBuffer, consumptionMode, implementation, executorService,
+                pipeline, false);
+    }
+
+    /**
+     * @param sampleFootprint whether the memory and thread footprint is sampled and leaked threads looked for on close
+     */
+    DefaultJunitDebeziumEngine(Class<? extends SourceConnector> sourceConnectorClass,
+                               Map<String, String> configuration,
+                               ConnectorCallback connectorCallback,
+                               ChangeEventBuffer changeEventBuffer,
+                               ConsumptionMode consumptionMode,
+                               EngineImplementation implementation,
+                               ExecutorService executorService,
+                               RecordPipeline pipeline,
+                               boolean sampleFootprint
+    ) {
+        this.pipeline = pipeline;
         this.configuration = createConfiguration(configuration, sourceConnectorClass);
+        this.footprint = new Footprint(this.configuration.getString(EmbeddedEngineConfig.ENGINE_NAME),
+                this.configuration.getString(CommonConnectorConfig.TOPIC_PREFIX), sampleFootprint);
+        this.metrics = new JunitDebeziumEngineMetrics(batchStatistics, lifecycle, pipeline.statistics(), footprint);
+        for (EnginePhase phase : EnginePhase.values()) {
+            lifecycle.phase(phase).thenRun(() -> footprint.reached(phase));
+        }
+        this.ownsExecutorService = executorService == null;
+        this.executorService = ownsExecutorService ? Executors.newSingleThreadExecutor() : executorService;
+        this.sourceConnectorClass = sourceConnectorClass;
+        this.changeEventBuffer = changeEventBuffer;
+        // only the async engine runs more than one task
+        if (implementation == EngineImplementation.ASYNC) {
+            lifecycle.expectTasks(this.configuration.getInteger(TASKS_MAX, 1));
+        }
+        if (this.configuration.getList(CommonConnectorConfig.NOTIFICATION_ENABLED_CHANNELS).contains(SinkNotificationChannel.CHANNEL_NAME)) {
+            lifecycle.followNotifications(this.configuration.getString(SinkNotificationChannel.NOTIFICATION_TOPIC));
+        }
 
-        if (connectorCallback == null) {
-            this.engine = DebeziumEngine.create(ChangeEventFormat.of(Connect.class))
-                    .using(this.configuration.asProperties())
-                    .using(getClass().getClassLoader())
-                    .using(this.junitEngineCallback)
-                    .notifying((ignore) -> {
-                    })
-                    .build();
+        ConnectorCallback callback = connectorCallback == null
+                ? this.junitEngineCallback
+                : new ComposableCallbacks(List.of(this.junitEngineCallback, connectorCallback));
+
+        DebeziumEngine.Builder<RecordChangeEvent<SourceRecord>> builder = implementation == EngineImplementation.ASYNC
+                ? new ConvertingAsyncEngineBuilderFactory().builder(ChangeEventFormat.of(Connect.class))
+                : DebeziumEngine.create(ChangeEventFormat.of(Connect.class));
+
+        builder.using(this.configuration.asProperties())
+                .using(getClass().getClassLoader())
+                .using(callback)
+                .using(lifecycle::completed);
+
+        if (consumptionMode == ConsumptionMode.BATCH) {
+            builder.notifying(this::handleBatch);
+        }
+        else {
+            builder.notifying(this::handleRecord);
+        }
+
+        this.engine = builder.build();
+    }
+
+    /**
+     * Record by record consumer, which can't throw: an interruption means the engine is stopping, the remaining
+     * listeners are deliberately skipped for that record and the interrupt status is restored for the engine to see.
+     */
+    private void handleRecord(RecordChangeEvent<SourceRecord> event) {
+        try {
+            process(event);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void process(RecordChangeEvent<SourceRecord> event) throws InterruptedException {
+        // phases and metrics are those of the captured records, whatever the transforms do with them
+        lifecycle.track(event.record());
+        metrics.record(event.record());
+
+        SourceRecord record = pipeline.isEmpty() ? event.record() : pipeline.apply(event.record());
+        if (record == null) {
             return;
         }
+        changeEventBuffer.add(record);
 
-        this.engine = DebeziumEngine.create(ChangeEventFormat.of(Connect.class))
-                .using(this.configuration.asProperties())
-                .using(getClass().getClassLoader())
-                .using(new ComposableCallbacks(List.of(new JunitEngineCallback(), connectorCallback)))
-                .notifying((ignore) -> {
-                })
-                .build();
+        for (ChangeEventListener listener : listeners) {
+            listener.onChangeEvent(record);
+        }
+    }
+
+    private void handleBatch(List<RecordChangeEvent<SourceRecord>> events,
+                             RecordCommitter<RecordChangeEvent<SourceRecord>> committer) throws InterruptedException {
+        for (RecordChangeEvent<SourceRecord> event : events) {
+            process(event);
+            committer.markProcessed(event);
+        }
+
+        long commitStart = System.nanoTime();
+        committer.markBatchFinished();
+        metrics.recordOffsetCommit(System.nanoTime() - commitStart);
+        batchStatistics.recordBatch(events.size());
+    }
+
+    void addListener(ChangeEventListener listener) {
+        listeners.add(listener);
+    }
+
+    void removeListener(ChangeEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    List<ChangeEventListener> listeners() {
+        return List.copyOf(listeners);
     }
 
     @Override
     public void close() throws IOException {
         try {
             engine.close();
-            Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> !isEngineRunning.get());
-        } catch (IOException | ConditionTimeoutException e) {
-            executorService.shutdownNow();
+            // an engine never run never stops
+            if (execution != null) {
+                lifecycle.await(EnginePhase.CONNECTOR_STOPPED, SHUTDOWN_TIMEOUT);
+            }
+            if (ownsExecutorService) {
+                executorService.shutdown();
+            }
+        } catch (IOException | DebeziumException e) {
+            if (ownsExecutorService) {
+                executorService.shutdownNow();
+            }
+            else if (execution != null) {
+                execution.cancel(true);
+            }
+        } finally {
+            // listeners first, a recording is flushed even when a transform or converter fails to close
+            try {
+                for (ChangeEventListener listener : listeners) {
+                    if (listener instanceof Closeable closeable) {
+                        closeable.close();
+                    }
+                }
+            }
+            finally {
+                footprint.stop();
+                pipeline.close();
+            }
         }
     }
 
     @Override
     public void run() {
-        executorService.submit(engine);
+        footprint.start();
+        lifecycle.starting(configuration.getString(EmbeddedEngineConfig.ENGINE_NAME));
+        try {
+            execution = executorService.submit(engine);
+        }
+        catch (RejectedExecutionException e) {
+            footprint.stop();
+            throw e;
+        }
     }
 
     @Override
@@ -112,7 +282,7 @@ class DefaultJunitDebeziumEngine implements JunitDebeziumEngine {
 
     @Override
     public boolean isRunning() {
-        return junitEngineCallback.isRunning();
+        return lifecycle.hasReached(EnginePhase.CONNECTOR_STARTED) && !lifecycle.hasReached(EnginePhase.CONNECTOR_STOPPED);
     }
 
     @Override
@@ -120,20 +290,61 @@ class DefaultJunitDebeziumEngine implements JunitDebeziumEngine {
         return configuration.getString(key);
     }
 
+    @Override
+    public ChangeEventBuffer getChangeEventBuffer() {
+        return changeEventBuffer;
+    }
+
+    @Override
+    public BatchStatistics getBatchStatistics() {
+        return batchStatistics;
+    }
+
+    @Override
+    public JunitDebeziumEngineMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public EngineLifecycle getLifecycle() {
+        return lifecycle;
+    }
+
+    @Override
+    public Instant awaitPhase(EnginePhase phase, Duration timeout) {
+        return lifecycle.await(phase, timeout);
+    }
+
+    @Override
+    public ChangeEventExpectation expect() {
+        return new ChangeEventExpectation(this);
+    }
+
+    @Override
+    public IncrementalSnapshot incrementalSnapshot() {
+        return new IncrementalSnapshot(this);
+    }
+
     private class JunitEngineCallback implements ConnectorCallback {
 
         @Override
         public void connectorStarted() {
-            isEngineRunning.compareAndExchange(false, true);
+            lifecycle.reached(EnginePhase.CONNECTOR_STARTED);
         }
 
         @Override
         public void connectorStopped() {
-            isEngineRunning.set(false);
+            lifecycle.reached(EnginePhase.CONNECTOR_STOPPED);
         }
 
-        public boolean isRunning() {
-            return isEngineRunning.get();
+        @Override
+        public void taskStarted() {
+            lifecycle.reached(EnginePhase.TASK_STARTED);
+        }
+
+        @Override
+        public void taskStopped() {
+            lifecycle.taskStopped();
         }
     }
 
@@ -153,5 +364,15 @@ class DefaultJunitDebeziumEngine implements JunitDebeziumEngine {
         public void connectorStopped() {
             callbacks.forEach(ConnectorCallback::connectorStopped);
         }
+
+        @Override
+        public void taskStarted() {
+            callbacks.forEach(ConnectorCallback::taskStarted);
+        }
+
+        @Override
+        public void taskStopped() {
+            callbacks.forEach(ConnectorCallback::taskStopped);
+        }
     }
 }
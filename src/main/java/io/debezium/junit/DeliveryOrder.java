@@ -0,0 +1,22 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+/**
+ * Order change events are handed to the test engine by the {@link EngineImplementation#ASYNC} engine.
+ */
+public enum DeliveryOrder {
+    /**
+     * In the order of the source, the records of a batch are processed in parallel but delivered in sequence.
+     */
+    ORDERED,
+
+    /**
+     * As soon as processed, making the most of the processing threads.
+     */
+    UNORDERED
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.source.SourceConnector;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.embedded.EmbeddedEngineConfig;
+import io.debezium.engine.DebeziumEngine.ConnectorCallback;
+
+/**
+ * Everything needed to build a test engine. Two test classes with equal definitions can share the same engine.
+ */
+record EngineDefinition(String name,
+                        Class<? extends SourceConnector> connector,
+                        List<Class<? extends DebeziumTestResourceLifecycleManager>> resources,
+                        Map<String, String> configuration,
+                        Class<? extends ConnectorCallback> connectorCallback,
+                        int bufferCapacity,
+                        EvictionPolicy evictionPolicy,
+                        ConsumptionMode consumptionMode,
+                        OffsetStorage offsetStorage,
+                        String offsetStorageKey,
+                        String recordTo,
+                        ExecutorStrategy executor,
+                        EngineImplementation implementation,
+                        List<Transform> transforms,
+                        List<TransformPredicate> predicates,
+                        OutputFormat format,
+                        boolean footprint,
+                        String isolationId) {
+    private static final int MAX_SLOT_NAME_LENGTH = 63;
+    // by name, the connectors are not dependencies
+    private static final String POSTGRES_CONNECTOR = "io.debezium.connector.postgresql.PostgresConnector";
+    private static final String MYSQL_CONNECTOR = "io.debezium.connector.mysql.MySqlConnector";
+
+    /**
+     * @return engine name and topic prefix derived from the isolation id, with the replication slot of the Postgres
+     * connector and the server id of the MySQL connector, nothing when the engine is not isolated
+     */
+    Map<String, String> isolationConfiguration() {
+        if (isolationId.isEmpty()) {
+            return Map.of();
+        }
+
+        String normalized = isolationId.toLowerCase().replaceAll("[^a-z0-9]", "_");
+        Map<String, String> configuration = new HashMap<>();
+        configuration.put(EmbeddedEngineConfig.ENGINE_NAME.name(), isolationId);
+        configuration.put(CommonConnectorConfig.TOPIC_PREFIX.name(), "testing_" + normalized);
+
+        switch (connector.getName()) {
+            case POSTGRES_CONNECTOR -> {
+                configuration.put("slot.name", slotName(normalized));
+                // offsets kept in memory are lost with the engine, so is the slot
+                if (offsetStorage == OffsetStorage.MEMORY) {
+                    configuration.put("slot.drop.on.stop", "true");
+                }
+            }
+            case MYSQL_CONNECTOR -> configuration.put("database.server.id", String.valueOf(5400 + Math.floorMod(isolationId.hashCode(), 1_000_000)));
+            default -> {
+            }
+        }
+
+        return configuration;
+    }
+
+    /**
+     * Long names are truncated with a hash of the whole name, so names sharing a long prefix still get distinct slots.
+     */
+    private static String slotName(String normalized) {
+        if (normalized.length() <= MAX_SLOT_NAME_LENGTH) {
+            return normalized;
+        }
+
+        String hash = shortHash(normalized);
+
+        return normalized.substring(0, MAX_SLOT_NAME_LENGTH - hash.length() - 1) + "_" + hash;
+    }
+
+    /**
+     * @return eight hexadecimal characters derived from the value, e.g. to tell apart test classes of the same simple name
+     */
+    static String shortHash(String value) {
+        return String.format("%08x", value.hashCode());
+    }
+
+    ResourcesKey resourcesKey() {
+        return new ResourcesKey(resources);
+    }
+
+    record ResourcesKey(List<Class<? extends DebeziumTestResourceLifecycleManager>> resources) {
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+
+/**
+ * Executor running the test engines, following an {@link ExecutorStrategy}.
+ */
+class EngineExecutor implements CloseableResource {
+    static final String SHARED_THREADS = "debezium.executor.shared.threads";
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ExecutorStatistics statistics;
+    private final ExecutorService executorService;
+
+    EngineExecutor(ExecutorStrategy strategy, int sharedThreads) {
+        this.statistics = new ExecutorStatistics(strategy);
+
+        String prefix = "debezium-engine-" + strategy.name().toLowerCase() + "-";
+        this.executorService = switch (strategy) {
+            case PLATFORM -> Executors.newCachedThreadPool(counting(Thread.ofPlatform().name(prefix, 0).factory()));
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(counting(Thread.ofVirtual().name(prefix, 0).factory()));
+            case SHARED -> exhaustible(sharedThreads, counting(Thread.ofPlatform().name(prefix, 0).factory()));
+        };
+    }
+
+    /**
+     * An engine holds its thread as long as it runs: rather than queueing an engine that would only start once another
+     * one stops, the pool rejects it as soon as all its threads are taken.
+     */
+    private static ExecutorService exhaustible(int threads, ThreadFactory threadFactory) {
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), threadFactory,
+                (task, executor) -> {
+                    throw new RejectedExecutionException("All the " + threads + " threads of the SHARED executor are held by running engines, "
+                            + "raise " + SHARED_THREADS + " or stop the engines earlier, e.g. with the CLASS scope");
+                });
+    }
+
+    ExecutorService executorService() {
+        return executorService;
+    }
+
+    ExecutorStatistics statistics() {
+        return statistics;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executorService.shutdown();
+        if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private ThreadFactory counting(ThreadFactory threadFactory) {
+        return runnable -> {
+            statistics.threadCreated();
+
+            return threadFactory.newThread(() -> {
+                statistics.threadStarted();
+                try {
+                    runnable.run();
+                }
+                finally {
+                    statistics.threadStopped();
+                }
+            });
+        };
+    }
+}
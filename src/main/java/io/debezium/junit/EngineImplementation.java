@@ -0,0 +1,20 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+public enum EngineImplementation {
+    /**
+     * The embedded engine, running a single task and handling records on the task thread.
+     */
+    EMBEDDED,
+
+    /**
+     * The asynchronous embedded engine, running every task on its own thread and handling records on a pool of
+     * processing threads.
+     */
+    ASYNC
+}
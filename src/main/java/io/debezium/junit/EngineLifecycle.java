@@ -0,0 +1,221 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import io.debezium.DebeziumException;
+import io.debezium.pipeline.notification.InitialSnapshotNotificationService;
+import io.debezium.pipeline.notification.Notification;
+import io.debezium.pipeline.notification.SnapshotStatus;
+import io.debezium.pipeline.spi.SnapshotResult.SnapshotResultStatus;
+
+/**
+ * Lifecycle signals of a test engine: every {@link EnginePhase} is a future completed by the engine callbacks
+ * or by the consumed change events, so tests wait exactly as long as the connector needs.
+ */
+public class EngineLifecycle {
+    private static final String SOURCE = "source";
+    private static final String SNAPSHOT = "snapshot";
+
+    private final Map<EnginePhase, CompletableFuture<Instant>> phases = new EnumMap<>(EnginePhase.class);
+    private volatile boolean streaming;
+    private volatile Instant startedAt;
+    private volatile Instant firstEventAt;
+    private volatile String engine;
+    private volatile String notificationTopic;
+    private volatile int tasks = 1;
+    private final Set<Map<String, ?>> snapshotted = ConcurrentHashMap.newKeySet();
+    private final Set<Map<String, ?>> streamingPartitions = ConcurrentHashMap.newKeySet();
+
+    EngineLifecycle() {
+        Arrays.stream(EnginePhase.values()).forEach(phase -> phases.put(phase, new CompletableFuture<>()));
+    }
+
+    void starting(String engine) {
+        this.engine = engine;
+        startedAt = Instant.now();
+    }
+
+    /**
+     * Completes {@link EnginePhase#SNAPSHOT_COMPLETED} from the initial snapshot notifications sent to the topic as well,
+     * which also covers empty and skipped snapshots.
+     */
+    void followNotifications(String notificationTopic) {
+        this.notificationTopic = notificationTopic;
+    }
+
+    /**
+     * The snapshot and streaming phases are reached once every one of the tasks, told apart by the source partition of
+     * their records, reached them.
+     */
+    void expectTasks(int tasks) {
+        this.tasks = Math.max(tasks, 1);
+    }
+
+    void reached(EnginePhase phase) {
+        Instant now = Instant.now();
+
+        if (phases.get(phase).complete(now)) {
+            EnginePhaseEvent event = new EnginePhaseEvent();
+            if (event.shouldCommit()) {
+                event.engine = engine;
+                event.phase = phase.name();
+                event.sinceStart = startedAt == null ? 0 : Duration.between(startedAt, now).toNanos();
+                event.commit();
+            }
+        }
+    }
+
+    void track(SourceRecord record) {
+        if (firstEventAt == null) {
+            firstEventAt = Instant.now();
+        }
+        if (streaming || !(record.value() instanceof Struct value)) {
+            return;
+        }
+        if (record.topic() != null && record.topic().equals(notificationTopic)) {
+            trackNotification(partition(record), value);
+            return;
+        }
+
+        Field sourceField = value.schema().field(SOURCE);
+        if (sourceField == null || !(value.get(sourceField) instanceof Struct source)) {
+            return;
+        }
+
+        Field snapshotField = source.schema().field(SNAPSHOT);
+        Object snapshot = snapshotField == null ? null : source.get(snapshotField);
+
+        Map<String, ?> partition = partition(record);
+
+        if ("last".equals(snapshot)) {
+            snapshotted.add(partition);
+        }
+        else if (snapshot == null || "false".equals(snapshot) || "incremental".equals(snapshot)) {
+            snapshotted.add(partition);
+            streamingPartitions.add(partition);
+        }
+        else {
+            return;
+        }
+
+        if (snapshotted.size() >= tasks) {
+            reached(EnginePhase.SNAPSHOT_COMPLETED);
+        }
+        if (streamingPartitions.size() >= tasks) {
+            reached(EnginePhase.STREAMING_STARTED);
+            streaming = true;
+        }
+    }
+
+    private static Map<String, ?> partition(SourceRecord record) {
+        return record.sourcePartition() == null ? Map.of() : record.sourcePartition();
+    }
+
+    private void trackNotification(Map<String, ?> partition, Struct notification) {
+        if (!InitialSnapshotNotificationService.INITIAL_SNAPSHOT.equals(notification.getString(Notification.AGGREGATE_TYPE))) {
+            return;
+        }
+
+        String type = notification.getString(Notification.TYPE);
+        if (SnapshotStatus.COMPLETED.name().equals(type) || SnapshotResultStatus.SKIPPED.name().equals(type)) {
+            snapshotted.add(partition);
+            if (snapshotted.size() >= tasks) {
+                reached(EnginePhase.SNAPSHOT_COMPLETED);
+            }
+        }
+    }
+
+    /**
+     * The task stopped: streaming is only over if it ever started, a task stopped while snapshotting leaves
+     * {@link EnginePhase#STREAMING_STOPPED} to fail with the engine.
+     */
+    void taskStopped() {
+        if (hasReached(EnginePhase.STREAMING_STARTED)) {
+            reached(EnginePhase.STREAMING_STOPPED);
+        }
+    }
+
+    void completed(boolean success, String message, Throwable error) {
+        taskStopped();
+        reached(EnginePhase.CONNECTOR_STOPPED);
+
+        DebeziumException cause = success
+                ? new DebeziumException("Engine stopped before reaching the phase: " + message)
+                : new DebeziumException("Engine failed: " + message, error);
+
+        phases.values().forEach(future -> future.completeExceptionally(cause));
+    }
+
+    public boolean hasReached(EnginePhase phase) {
+        CompletableFuture<Instant> future = phases.get(phase);
+
+        return future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    /**
+     * @return the instant the engine was submitted for execution, {@code null} if not started yet
+     */
+    public Instant startedAt() {
+        return startedAt;
+    }
+
+    /**
+     * @return the instant the first change event was consumed, empty if none yet
+     */
+    public Optional<Instant> firstEventAt() {
+        return Optional.ofNullable(firstEventAt);
+    }
+
+    public Optional<Instant> reachedAt(EnginePhase phase) {
+        return hasReached(phase) ? Optional.of(phases.get(phase).join()) : Optional.empty();
+    }
+
+    /**
+     * @return a future completed with the instant the phase was reached
+     */
+    public CompletableFuture<Instant> phase(EnginePhase phase) {
+        return phases.get(phase).copy();
+    }
+
+    /**
+     * Blocks until the phase is reached.
+     *
+     * @throws DebeziumException if the phase is not reached within the timeout or the engine stops before it
+     */
+    public Instant await(EnginePhase phase, Duration timeout) {
+        try {
+            return phases.get(phase).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        catch (TimeoutException e) {
+            throw new DebeziumException("Engine didn't reach " + phase + " within " + timeout, e);
+        }
+        catch (ExecutionException e) {
+            throw new DebeziumException("Engine didn't reach " + phase, e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DebeziumException("Interrupted while waiting for " + phase, e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+/**
+ * Phases of a test engine. The engine callbacks only report the connector and task starts and stops, the snapshot and
+ * streaming phases are inferred from the {@code source.snapshot} field of the consumed change events, which has limits:
+ * <ul>
+ * <li>an empty snapshot emits no {@code last} record: {@link #SNAPSHOT_COMPLETED} is only reached with the first streaming
+ * event, unless the {@code sink} notification channel is enabled, whose initial snapshot notifications complete it</li>
+ * <li>no event reports the start of the streaming: {@link #STREAMING_STARTED} is reached with the first streaming event,
+ * so awaiting it times out while the database stays idle</li>
+ * <li>records without a Debezium {@code source} block (custom connectors) never complete the snapshot and streaming phases</li>
+ * <li>with several tasks, they are reached once as many source partitions as {@code tasks.max} reached them: a connector
+ * creating fewer tasks, or several partitions per task, has to set {@code tasks.max} accordingly</li>
+ * </ul>
+ */
+public enum EnginePhase {
+    CONNECTOR_STARTED,
+    TASK_STARTED,
+
+    /**
+     * Reached when the last snapshot record is consumed, or when the first streaming record shows up
+     * for connectors that skip the snapshot.
+     */
+    SNAPSHOT_COMPLETED,
+
+    /**
+     * Reached when the first streaming (non snapshot) change event is consumed.
+     */
+    STREAMING_STARTED,
+
+    /**
+     * Reached when the task stops after {@link #STREAMING_STARTED}, never when it stops during the snapshot.
+     */
+    STREAMING_STOPPED,
+    CONNECTOR_STOPPED
+}
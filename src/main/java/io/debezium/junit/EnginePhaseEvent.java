@@ -0,0 +1,31 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("io.debezium.junit.EnginePhase")
+@Label("Engine Phase")
+@Description("Lifecycle phase reached by a test engine")
+@Category({ "Debezium", "Testing" })
+class EnginePhaseEvent extends Event {
+
+    @Label("Engine")
+    String engine;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Since Start")
+    @Timespan
+    long sinceStart;
+}
@@ -0,0 +1,20 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+public enum EngineScope {
+    /**
+     * Resources and engine are started before the test class and stopped after it.
+     */
+    CLASS,
+
+    /**
+     * Resources and engine are shared by all the test classes with the same definition
+     * and stopped when the test suite ends.
+     */
+    SUITE
+}
@@ -0,0 +1,37 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+/**
+ * Recognizes the threads running connectors by their name: those of the engine executors and of Debezium, named
+ * {@code debezium-*}, and the default pools of the engines, named {@code pool-*}.
+ */
+final class EngineThreads {
+    private static final String EXECUTOR_PREFIX = "debezium-engine-";
+    private static final String POOL_PREFIX = "pool-";
+
+    private EngineThreads() {
+    }
+
+    static boolean isEngineThread(String name) {
+        return name != null && (name.startsWith("debezium-") || isPoolThread(name));
+    }
+
+    /**
+     * @return whether the thread belongs to a default pool, of an engine or of anything else in the JVM
+     */
+    static boolean isPoolThread(String name) {
+        return name != null && name.startsWith(POOL_PREFIX);
+    }
+
+    /**
+     * @return whether the thread belongs to an {@link EngineExecutor}, shared by engines and stopped by the extension
+     */
+    static boolean isExecutorThread(String name) {
+        return name != null && name.startsWith(EXECUTOR_PREFIX);
+    }
+}
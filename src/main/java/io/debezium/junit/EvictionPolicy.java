@@ -0,0 +1,19 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+public enum EvictionPolicy {
+    /**
+     * When a topic buffer is full the oldest captured event is overwritten (ring buffer).
+     */
+    DROP_OLDEST,
+
+    /**
+     * When a topic buffer is full new events are discarded, keeping the first captured ones.
+     */
+    DROP_NEWEST
+}
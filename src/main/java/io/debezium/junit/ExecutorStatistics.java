@@ -0,0 +1,63 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Threads created by the executor running the test engines.
+ */
+public class ExecutorStatistics {
+    private final ExecutorStrategy strategy;
+    private final LongAdder created = new LongAdder();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAccumulator peak = new LongAccumulator(Math::max, 0);
+
+    ExecutorStatistics(ExecutorStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    void threadCreated() {
+        created.increment();
+    }
+
+    void threadStarted() {
+        peak.accumulate(active.incrementAndGet());
+    }
+
+    void threadStopped() {
+        active.decrementAndGet();
+    }
+
+    public ExecutorStrategy strategy() {
+        return strategy;
+    }
+
+    public long created() {
+        return created.sum();
+    }
+
+    public int active() {
+        return active.get();
+    }
+
+    public long peak() {
+        return peak.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorStatistics{" +
+                "strategy=" + strategy +
+                ", created=" + created() +
+                ", active=" + active() +
+                ", peak=" + peak() +
+                '}';
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+/**
+ * Threads running {@code DebeziumEngine.run()}, the polling loop of the {@link EngineImplementation#EMBEDDED} engine.
+ * <p>
+ * The {@link EngineImplementation#ASYNC} engine only runs its startup and shutdown on that thread: it polls the tasks
+ * and processes the records on fixed pools of platform threads it creates itself, named {@code pool-*}, which can't be
+ * replaced. With that engine, the strategy does not make the connector run on virtual or shared threads.
+ */
+public enum ExecutorStrategy {
+    /**
+     * A platform thread per running engine.
+     */
+    PLATFORM,
+
+    /**
+     * A virtual thread per running engine.
+     */
+    VIRTUAL,
+
+    /**
+     * A bounded pool of platform threads shared by all the engines of the suite, sized by the
+     * {@value EngineExecutor#SHARED_THREADS} configuration parameter, the number of processors by default.
+     * An engine holds a thread as long as it runs, an engine started while all the threads are held fails to start.
+     */
+    SHARED
+}
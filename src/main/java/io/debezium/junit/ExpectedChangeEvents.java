@@ -0,0 +1,115 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.apache.kafka.connect.source.SourceRecord;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Change events expected through a {@link ChangeEventExpectation}, matched on the engine thread as they are consumed.
+ * The expectation completes as soon as it is met, or fails on the first mismatch.
+ */
+public abstract class ExpectedChangeEvents {
+    private final DefaultJunitDebeziumEngine engine;
+    private final long expected;
+    private final String description;
+    private final AtomicLong received = new AtomicLong();
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+    private ChangeEventListener listener;
+
+    ExpectedChangeEvents(DefaultJunitDebeziumEngine engine, long expected, String description) {
+        this.engine = engine;
+        this.expected = expected;
+        this.description = description;
+    }
+
+    /**
+     * @return why the selected record fails the expectation, {@code null} when it doesn't
+     */
+    abstract String match(SourceRecord record);
+
+    void matched() {
+        received.incrementAndGet();
+    }
+
+    void listen(Function<SourceRecord, String> matcher) {
+        listener = record -> {
+            if (result.isDone()) {
+                return;
+            }
+
+            String mismatch = matcher.apply(record);
+            if (mismatch != null) {
+                result.completeExceptionally(new AssertionFailedError(description + ": " + mismatch));
+            }
+            else if (received.get() >= expected) {
+                result.complete(null);
+            }
+        };
+
+        // met or failed, an expectation only queried through received() or abandoned doesn't stay on the engine
+        engine.addListener(listener);
+        result.whenComplete((ignore, error) -> engine.removeListener(listener));
+
+        if (expected == 0) {
+            result.complete(null);
+        }
+    }
+
+    /**
+     * @return the number of events matched so far
+     */
+    public long received() {
+        return received.get();
+    }
+
+    /**
+     * Waits for the expectation to be met.
+     *
+     * @throws AssertionFailedError on the first mismatch, or when the expectation is not met within the timeout or
+     * before the engine stops
+     */
+    public void within(Duration timeout) {
+        try {
+            CompletableFuture.anyOf(result, engine.getLifecycle().phase(EnginePhase.CONNECTOR_STOPPED))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        catch (TimeoutException e) {
+            throw new AssertionFailedError(description + ": received " + received() + " of " + expected + " within " + timeout);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionFailedError(description + ": interrupted after " + received() + " of " + expected);
+        }
+        catch (ExecutionException ignore) {
+            // either the expectation failed or the engine did, told apart below
+        }
+        finally {
+            engine.removeListener(listener);
+        }
+
+        if (!result.isDone()) {
+            throw new AssertionFailedError(description + ": engine stopped after " + received() + " of " + expected);
+        }
+        if (result.isCompletedExceptionally()) {
+            throw (AssertionFailedError) result.exceptionNow();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + received() + " of " + expected;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Rows of a table loaded in bulk by a {@link DebeziumTestResourceLifecycleManager} before the engine starts,
+ * streamed as CSV without header, in the order of {@link #columns()}.
+ */
+public final class Fixture {
+    private final String table;
+    private final List<String> columns;
+    private final CsvSource source;
+
+    private Fixture(String table, List<String> columns, CsvSource source) {
+        this.table = table;
+        this.columns = columns;
+        this.source = source;
+    }
+
+    /**
+     * @param file CSV file whose first line names the columns, quoted when they contain commas or quotes
+     */
+    public static Fixture csv(String table, Path file) {
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException(file + " has no header");
+            }
+
+            List<String> columns = columns(header);
+
+            return new Fixture(table, columns, () -> {
+                BufferedReader csv = Files.newBufferedReader(file);
+                csv.readLine();
+
+                return csv;
+            });
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Splits a CSV header, the quoted names are unquoted and their doubled quotes unescaped.
+     */
+    static List<String> columns(String header) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < header.length(); i++) {
+            char c = header.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    column.append(c);
+                }
+                else if (i + 1 < header.length() && header.charAt(i + 1) == '"') {
+                    column.append('"');
+                    i++;
+                }
+                else {
+                    quoted = false;
+                }
+            }
+            else if (c == '"') {
+                quoted = true;
+            }
+            else if (c == ',') {
+                columns.add(column.toString().trim());
+                column.setLength(0);
+            }
+            else {
+                column.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quote in CSV header " + header);
+        }
+        columns.add(column.toString().trim());
+
+        return List.copyOf(columns);
+    }
+
+    /**
+     * @param row values of the n-th row, from {@code 0}, in the order of the columns; generated as the CSV is read
+     */
+    public static Fixture generated(String table, List<String> columns, long rows, LongFunction<Object[]> row) {
+        return new Fixture(table, List.copyOf(columns), () -> new GeneratedCsvReader(rows, row));
+    }
+
+    public String table() {
+        return table;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    public Reader openCsv() throws IOException {
+        return source.open();
+    }
+
+    @Override
+    public String toString() {
+        return "Fixture{table=" + table + ", columns=" + columns + '}';
+    }
+
+    @FunctionalInterface
+    private interface CsvSource {
+        Reader open() throws IOException;
+    }
+
+    /**
+     * Formats the rows one at a time, {@code null} values as empty fields and empty strings as {@code ""}.
+     */
+    private static class GeneratedCsvReader extends Reader {
+        private final long rows;
+        private final LongFunction<Object[]> row;
+        private final StringBuilder line = new StringBuilder();
+        private long next;
+        private int position;
+
+        private GeneratedCsvReader(long rows, LongFunction<Object[]> row) {
+            this.rows = rows;
+            this.row = row;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+
+            int read = 0;
+            while (read < length) {
+                if (position == line.length()) {
+                    if (next == rows) {
+                        break;
+                    }
+                    format(row.apply(next++));
+                }
+
+                int count = Math.min(length - read, line.length() - position);
+                line.getChars(position, position + count, buffer, offset + read);
+                position += count;
+                read += count;
+            }
+
+            return read == 0 ? -1 : read;
+        }
+
+        private void format(Object[] values) {
+            line.setLength(0);
+            position = 0;
+
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                if (values[i] == null) {
+                    continue;
+                }
+
+                String value = values[i].toString();
+                if (value.isEmpty() || value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                    line.append('"').append(value.replace("\"", "\"\"")).append('"');
+                }
+                else {
+                    line.append(value);
+                }
+            }
+
+            line.append('\n');
+        }
+
+        @Override
+        public void close() {
+            next = rows;
+            position = line.length();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads the fixtures of a resource concurrently, one virtual thread per fixture.
+ */
+class FixtureSeeder {
+
+    private FixtureSeeder() {
+    }
+
+    static List<FixtureStatistics> seed(DebeziumTestResourceLifecycleManager resource) {
+        if (!(resource instanceof SeedableResource seedable)) {
+            return List.of();
+        }
+        List<Fixture> fixtures = seedable.fixtures();
+        if (fixtures.isEmpty()) {
+            return List.of();
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<FixtureStatistics>> loads = fixtures.stream()
+                    .map(fixture -> executor.submit(() -> load(seedable, fixture)))
+                    .toList();
+
+            return loads.stream()
+                    .map(FixtureSeeder::get)
+                    .toList();
+        }
+    }
+
+    private static FixtureStatistics load(SeedableResource resource, Fixture fixture) throws Exception {
+        long start = System.nanoTime();
+        long rows = resource.load(fixture);
+
+        return new FixtureStatistics(fixture.table(), rows, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static FixtureStatistics get(Future<FixtureStatistics> load) {
+        try {
+            return load.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while seeding fixtures", e);
+        }
+        catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException("Unable to seed fixtures", e.getCause());
+        }
+    }
+}
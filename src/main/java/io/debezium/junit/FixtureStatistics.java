@@ -0,0 +1,19 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.time.Duration;
+
+/**
+ * Rows loaded from a {@link Fixture} and the time it took.
+ */
+public record FixtureStatistics(String table, long rows, Duration duration) {
+
+    public double rowsPerSecond() {
+        return rows * 1000.0 / Math.max(duration.toMillis(), 1);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Java Flight Recorder session of a test class, dumped and summarized once the class completed. The summary is
+ * restricted to the {@link EngineThreads connector threads}. The async engine runs its tasks on unnamed
+ * {@code pool-*} threads, so the events of those threads are only kept when their stack runs Debezium or Kafka Connect
+ * code: an approximation, the allocations of a JDK pool called from a connector are kept, and those of a connector
+ * whose stack is truncated by the recording are dropped.
+ */
+class FlightRecording implements AutoCloseable {
+    private static final Path DIRECTORY = Path.of("target", "junit-debezium", "jfr");
+    private static final int HOT_METHODS = 5;
+    private static final List<String> CONNECTOR_PACKAGES = List.of("io.debezium.", "org.apache.kafka.connect.");
+
+    private final Recording recording;
+    private final Path file;
+
+    private FlightRecording(Recording recording, Path file) {
+        this.recording = recording;
+        this.file = file;
+    }
+
+    static FlightRecording start(String name) {
+        try {
+            Files.createDirectories(DIRECTORY);
+            Recording recording = new Recording(Configuration.getConfiguration("profile"));
+            recording.setName(name);
+            recording.setToDisk(true);
+            recording.start();
+
+            return new FlightRecording(recording, DIRECTORY.resolve(name + ".jfr").toAbsolutePath());
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        catch (ParseException e) {
+            throw new IllegalStateException("Invalid JFR profile configuration", e);
+        }
+    }
+
+    /**
+     * Stops the recording and dumps it.
+     */
+    RecordingSummary stop() {
+        try {
+            recording.stop();
+            recording.dump(file);
+
+            return summarize(file);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        finally {
+            recording.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        recording.close();
+    }
+
+    static RecordingSummary summarize(Path file) throws IOException {
+        Instant first = null;
+        Instant last = null;
+        long allocated = 0;
+        long gcCount = 0;
+        Duration gcPauses = Duration.ZERO;
+        Duration longestGcPause = Duration.ZERO;
+        Map<String, Long> samples = new HashMap<>();
+
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                Instant end = event.getEndTime();
+                first = first == null || event.getStartTime().isBefore(first) ? event.getStartTime() : first;
+                last = last == null || end.isAfter(last) ? end : last;
+
+                switch (event.getEventType().getName()) {
+                    case "jdk.ObjectAllocationSample" -> {
+                        if (isConnectorThread(event.getThread("eventThread"), event.getStackTrace())) {
+                            allocated += event.getLong("weight");
+                        }
+                    }
+                    case "jdk.GarbageCollection" -> {
+                        gcCount++;
+                        gcPauses = gcPauses.plus(event.getDuration("sumOfPauses"));
+                        Duration longest = event.getDuration("longestPause");
+                        longestGcPause = longest.compareTo(longestGcPause) > 0 ? longest : longestGcPause;
+                    }
+                    case "jdk.ExecutionSample" -> {
+                        if (isConnectorThread(event.getThread("sampledThread"), event.getStackTrace())
+                                && event.getStackTrace() != null && !event.getStackTrace().getFrames().isEmpty()) {
+                            RecordedFrame top = event.getStackTrace().getFrames().get(0);
+                            samples.merge(top.getMethod().getType().getName() + "." + top.getMethod().getName(), 1L, Long::sum);
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        List<Map.Entry<String, Long>> hotMethods = samples.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Long> comparingByValue(Comparator.reverseOrder()))
+                .limit(HOT_METHODS)
+                .toList();
+        Duration duration = first == null ? Duration.ZERO : Duration.between(first, last);
+
+        return new RecordingSummary(file, duration, allocated, gcCount, gcPauses, longestGcPause, hotMethods);
+    }
+
+    private static boolean isConnectorThread(RecordedThread thread, RecordedStackTrace stackTrace) {
+        if (thread == null || !EngineThreads.isEngineThread(thread.getJavaName())) {
+            return false;
+        }
+        if (!EngineThreads.isPoolThread(thread.getJavaName())) {
+            return true;
+        }
+
+        return stackTrace != null && stackTrace.getFrames()
+                .stream()
+                .map(frame -> frame.getMethod().getType().getName())
+                .anyMatch(type -> CONNECTOR_PACKAGES.stream().anyMatch(type::startsWith));
+    }
+}
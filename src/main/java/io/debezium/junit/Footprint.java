@@ -0,0 +1,240 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Memory and thread footprint of the JVM while an engine runs: sampled periodically and when every {@link EnginePhase}
+ * is reached, so growth can be attributed to the phases. When the engine is closed, the connector threads it started
+ * and that are still alive after a grace period are reported as leaked.
+ * <p>
+ * Threads are not tagged with the engine that started them: a thread is attributed to the engines running when it was
+ * created, narrowed down by the Debezium logical name carried by the {@code debezium-*} thread names. A thread that may
+ * belong to another engine still running is not reported, a leak is missed rather than reported for the wrong engine.
+ * <p>
+ * Sampling and the leak detection only run when enabled, see {@link DebeziumIntegrationTest#footprint()}: a disabled
+ * footprint has no samples and reports no leaked threads.
+ */
+public class Footprint {
+    static final Duration SAMPLING_INTERVAL = Duration.ofMillis(100);
+    private static final Duration LEAK_GRACE_PERIOD = Duration.ofSeconds(1);
+    private static final int MAX_SAMPLES = 10_000;
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final Set<Footprint> RUNNING = ConcurrentHashMap.newKeySet();
+
+    private final Deque<FootprintSample> samples = new ArrayDeque<>();
+    private final Map<EnginePhase, FootprintSample> phases = new EnumMap<>(EnginePhase.class);
+    private final String engineName;
+    private final String logicalName;
+    private final boolean enabled;
+    private FootprintSample first;
+    private FootprintSample peak;
+    private volatile Set<Long> threadsBefore = Set.of();
+    private ScheduledExecutorService sampler;
+    private volatile List<String> leakedThreads = List.of();
+
+    /**
+     * @param engineName  name of the engine, identifying the footprint
+     * @param logicalName Debezium logical name of the engine, its {@code topic.prefix}, carried by the names of the
+     *                    threads Debezium starts, {@code null} when unknown
+     */
+    Footprint(String engineName, String logicalName, boolean enabled) {
+        this.engineName = engineName;
+        this.logicalName = logicalName;
+        this.enabled = enabled;
+    }
+
+    synchronized void start() {
+        if (!enabled) {
+            return;
+        }
+        threadsBefore = Arrays.stream(THREADS.getAllThreadIds()).boxed().collect(Collectors.toSet());
+        RUNNING.add(this);
+        first = record();
+        sampler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("junit-debezium-footprint-" + engineName).daemon().factory());
+        sampler.scheduleAtFixedRate(this::record, SAMPLING_INTERVAL.toMillis(), SAMPLING_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void reached(EnginePhase phase) {
+        if (!enabled) {
+            return;
+        }
+        FootprintSample sample = record();
+
+        synchronized (this) {
+            phases.putIfAbsent(phase, sample);
+        }
+    }
+
+    /**
+     * Stops sampling and looks for the connector threads started since {@link #start()} that outlive the engine.
+     */
+    void stop() {
+        synchronized (this) {
+            if (sampler == null) {
+                return;
+            }
+            sampler.shutdownNow();
+            sampler = null;
+        }
+        RUNNING.remove(this);
+
+        long deadline = System.nanoTime() + LEAK_GRACE_PERIOD.toNanos();
+        List<Thread> candidates = Thread.getAllStackTraces()
+                .keySet()
+                .stream()
+                .filter(thread -> EngineThreads.isEngineThread(thread.getName()) && !EngineThreads.isExecutorThread(thread.getName()))
+                .filter(this::mayOwn)
+                .filter(thread -> RUNNING.stream().noneMatch(running -> running.mayOwn(thread)))
+                .toList();
+
+        for (Thread thread : candidates) {
+            try {
+                thread.join(Duration.ofNanos(Math.max(deadline - System.nanoTime(), 1)));
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        leakedThreads = candidates.stream()
+                .filter(Thread::isAlive)
+                .map(Thread::getName)
+                .toList();
+    }
+
+    /**
+     * @return whether the thread was created while this engine was running and, when named after a Debezium logical
+     *         name, after this engine's one
+     */
+    private boolean mayOwn(Thread thread) {
+        if (threadsBefore.contains(thread.threadId())) {
+            return false;
+        }
+
+        String name = thread.getName();
+
+        return logicalName == null || EngineThreads.isPoolThread(name) || name.contains("-" + logicalName + "-");
+    }
+
+    private FootprintSample record() {
+        FootprintSample sample = sample();
+
+        synchronized (this) {
+            if (samples.size() == MAX_SAMPLES) {
+                samples.removeFirst();
+            }
+            samples.addLast(sample);
+            peak = peak == null ? sample : peak.max(sample);
+        }
+
+        return sample;
+    }
+
+    static FootprintSample sample() {
+        long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        long direct = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)
+                .stream()
+                .filter(pool -> "direct".equals(pool.getName()))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+        long metaspace = ManagementFactory.getMemoryPoolMXBeans()
+                .stream()
+                .filter(pool -> pool.getType() == MemoryType.NON_HEAP && "Metaspace".equals(pool.getName()))
+                .mapToLong(pool -> pool.getUsage().getUsed())
+                .sum();
+
+        ThreadInfo[] threads = THREADS.getThreadInfo(THREADS.getAllThreadIds(), 0);
+        int live = 0;
+        int engine = 0;
+        for (ThreadInfo thread : threads) {
+            if (thread != null) {
+                live++;
+                if (EngineThreads.isEngineThread(thread.getThreadName())) {
+                    engine++;
+                }
+            }
+        }
+
+        return new FootprintSample(Instant.now(), heap, direct, metaspace, live, engine);
+    }
+
+    /**
+     * @return the samples, the oldest ones are dropped past {@value #MAX_SAMPLES}
+     */
+    public synchronized List<FootprintSample> samples() {
+        return List.copyOf(samples);
+    }
+
+    /**
+     * @return the highest value of every measure, empty before the engine started
+     */
+    public synchronized Optional<FootprintSample> peak() {
+        return Optional.ofNullable(peak);
+    }
+
+    public synchronized Optional<FootprintSample> atPhase(EnginePhase phase) {
+        return Optional.ofNullable(phases.get(phase));
+    }
+
+    /**
+     * @return for every reached phase, the footprint growth since the previous reached phase, or since the engine start
+     */
+    public synchronized Map<EnginePhase, FootprintSample> growth() {
+        Map<EnginePhase, FootprintSample> growth = new EnumMap<>(EnginePhase.class);
+        FootprintSample previous = first;
+
+        for (EnginePhase phase : EnginePhase.values()) {
+            FootprintSample sample = phases.get(phase);
+            if (sample != null && previous != null) {
+                growth.put(phase, sample.minus(previous));
+                previous = sample;
+            }
+        }
+
+        return growth;
+    }
+
+    /**
+     * @return the names of the connector threads still alive after the engine was closed, but those that may belong to
+     *         another engine still running
+     */
+    public List<String> leakedThreads() {
+        return leakedThreads;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "Footprint{" +
+                "engine=" + engineName +
+                ", peak=" + peak +
+                ", growth=" + growth() +
+                ", leakedThreads=" + leakedThreads +
+                '}';
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.time.Instant;
+
+/**
+ * Memory and threads of the JVM at an instant, or the difference between two instants.
+ *
+ * @param heapUsed used heap, garbage included
+ * @param directUsed memory used by direct buffers
+ * @param metaspaceUsed used metaspace
+ * @param threads live platform threads
+ * @param engineThreads live {@link EngineThreads connector threads}
+ */
+public record FootprintSample(Instant at, long heapUsed, long directUsed, long metaspaceUsed, int threads, int engineThreads) {
+
+    public FootprintSample minus(FootprintSample other) {
+        return new FootprintSample(at, heapUsed - other.heapUsed, directUsed - other.directUsed, metaspaceUsed - other.metaspaceUsed,
+                threads - other.threads, engineThreads - other.engineThreads);
+    }
+
+    FootprintSample max(FootprintSample other) {
+        return new FootprintSample(at.isAfter(other.at) ? at : other.at,
+                Math.max(heapUsed, other.heapUsed), Math.max(directUsed, other.directUsed), Math.max(metaspaceUsed, other.metaspaceUsed),
+                Math.max(threads, other.threads), Math.max(engineThreads, other.engineThreads));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.engine.DebeziumEngine;
+import io.debezium.pipeline.notification.channels.SinkNotificationChannel;
+import io.debezium.pipeline.signal.channels.process.InProcessSignalChannel;
+
+/**
+ * Ad hoc incremental snapshot triggered through the engine {@link DebeziumEngine.Signaler}, e.g.
+ * <pre>{@code
+ * engine.incrementalSnapshot()
+ *         .dataCollection("public.customers")
+ *         .dataCollection("public.orders", "amount > 100")
+ *         .start()
+ *         .await(Duration.ofMinutes(5));
+ * }</pre>
+ * The engine needs the {@code in-process} signal channel and the {@code sink} notification channel, progress is
+ * followed through the notifications. The chunk size is the connector {@code incremental.snapshot.chunk.size}.
+ */
+public class IncrementalSnapshot {
+    static final String EXECUTE_SNAPSHOT = "execute-snapshot";
+    static final String STOP_SNAPSHOT = "stop-snapshot";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final DefaultJunitDebeziumEngine engine;
+    private final Map<String, String> dataCollections = new LinkedHashMap<>();
+    private String surrogateKey;
+
+    IncrementalSnapshot(DefaultJunitDebeziumEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * @param id data collection identifier, e.g. {@code schema.table} or {@code database.table}
+     */
+    public IncrementalSnapshot dataCollection(String id) {
+        dataCollections.put(id, null);
+
+        return this;
+    }
+
+    /**
+     * @param filter additional condition limiting the snapshotted rows, e.g. {@code amount > 100}
+     */
+    public IncrementalSnapshot dataCollection(String id, String filter) {
+        dataCollections.put(id, filter);
+
+        return this;
+    }
+
+    /**
+     * Column used to split the data collections in chunks instead of the primary key.
+     */
+    public IncrementalSnapshot surrogateKey(String column) {
+        surrogateKey = column;
+
+        return this;
+    }
+
+    /**
+     * Sends the {@code execute-snapshot} signal.
+     *
+     * @throws IllegalStateException if the engine channels don't allow the snapshot to be signalled and followed
+     */
+    public IncrementalSnapshotProgress start() {
+        if (dataCollections.isEmpty()) {
+            throw new IllegalStateException("No data collection to snapshot");
+        }
+        requireChannel(CommonConnectorConfig.SIGNAL_ENABLED_CHANNELS.name(), InProcessSignalChannel.CHANNEL_NAME);
+        requireChannel(CommonConnectorConfig.NOTIFICATION_ENABLED_CHANNELS.name(), SinkNotificationChannel.CHANNEL_NAME);
+        String notificationTopic = engine.getConfigurationValue(SinkNotificationChannel.NOTIFICATION_TOPIC.name());
+        if (notificationTopic == null) {
+            throw new IllegalStateException(SinkNotificationChannel.NOTIFICATION_TOPIC.name() + " has to be configured to follow an incremental snapshot");
+        }
+
+        String signalId = UUID.randomUUID().toString();
+        IncrementalSnapshotProgress progress = new IncrementalSnapshotProgress(engine, notificationTopic, signalId, dataCollections.keySet());
+        engine.addListener(progress);
+        try {
+            engine.getSignaler().signal(new DebeziumEngine.Signal(signalId, EXECUTE_SNAPSHOT, executeData(), null));
+        }
+        catch (RuntimeException e) {
+            engine.removeListener(progress);
+            throw e;
+        }
+
+        return progress;
+    }
+
+    private String executeData() {
+        ObjectNode data = MAPPER.createObjectNode();
+        data.put("type", "incremental");
+        ArrayNode collections = data.putArray("data-collections");
+        dataCollections.keySet().forEach(collections::add);
+
+        ArrayNode conditions = data.putArray("additional-conditions");
+        dataCollections.forEach((id, filter) -> {
+            if (filter != null) {
+                conditions.addObject()
+                        .put("data-collection", id)
+                        .put("filter", filter);
+            }
+        });
+
+        if (surrogateKey != null) {
+            data.put("surrogate-key", surrogateKey);
+        }
+
+        return write(data);
+    }
+
+    static String stopData(Iterable<String> dataCollections) {
+        ObjectNode data = MAPPER.createObjectNode();
+        data.put("type", "incremental");
+        ArrayNode collections = data.putArray("data-collections");
+        dataCollections.forEach(collections::add);
+
+        return write(data);
+    }
+
+    private static String write(ObjectNode data) {
+        try {
+            return MAPPER.writeValueAsString(data);
+        }
+        catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void requireChannel(String property, String channel) {
+        String channels = engine.getConfigurationValue(property);
+
+        if (channels == null || Arrays.stream(channels.split(",")).map(String::trim).noneMatch(channel::equals)) {
+            throw new IllegalStateException(property + " has to include " + channel + " to run an incremental snapshot");
+        }
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import io.debezium.DebeziumException;
+import io.debezium.engine.DebeziumEngine;
+import io.debezium.pipeline.notification.IncrementalSnapshotNotificationService;
+import io.debezium.pipeline.notification.Notification;
+import io.debezium.pipeline.notification.SnapshotStatus;
+
+/**
+ * Progress of an {@link IncrementalSnapshot}, chunk by chunk, driven by the change events and notifications consumed
+ * by the engine: {@link #await(Duration)} returns as soon as the completion is notified.
+ * <p>
+ * Only the notifications of this snapshot are followed: those identified by the signal, or by the {@code STARTED}
+ * notification listing the same data collections in its {@code additional_data}. The {@code COMPLETED} notification
+ * doesn't list them, so the notifications of an earlier or concurrent snapshot are told apart by their identifier.
+ */
+public class IncrementalSnapshotProgress implements ChangeEventListener, Closeable {
+    private static final String SOURCE = "source";
+    private static final String SNAPSHOT = "snapshot";
+    private static final String INCREMENTAL = "incremental";
+
+    private final DefaultJunitDebeziumEngine engine;
+    private final String notificationTopic;
+    private final String signalId;
+    private final Map<String, DataCollectionProgress> dataCollections = new LinkedHashMap<>();
+    private final CompletableFuture<Instant> completed = new CompletableFuture<>();
+    private final Instant startedAt = Instant.now();
+    private volatile String snapshotId;
+
+    IncrementalSnapshotProgress(DefaultJunitDebeziumEngine engine, String notificationTopic, String signalId, Collection<String> dataCollections) {
+        this.engine = engine;
+        this.notificationTopic = notificationTopic;
+        this.signalId = signalId;
+        dataCollections.forEach(id -> this.dataCollections.put(id, new DataCollectionProgress(id)));
+    }
+
+    @Override
+    public void onChangeEvent(SourceRecord record) {
+        if (!(record.value() instanceof Struct value)) {
+            return;
+        }
+
+        if (notificationTopic.equals(record.topic())) {
+            onNotification(value);
+        }
+        else if (isIncremental(value)) {
+            for (DataCollectionProgress progress : dataCollections.values()) {
+                if (record.topic().endsWith("." + progress.id)) {
+                    progress.rows.incrementAndGet();
+                    break;
+                }
+            }
+        }
+    }
+
+    private void onNotification(Struct notification) {
+        if (!IncrementalSnapshotNotificationService.INCREMENTAL_SNAPSHOT.equals(notification.getString(Notification.AGGREGATE_TYPE))) {
+            return;
+        }
+
+        Map<String, String> data = notification.getMap(Notification.ADDITIONAL_DATA);
+        String id = notification.getString(Notification.ID_KEY);
+        SnapshotStatus status = SnapshotStatus.valueOf(notification.getString(Notification.TYPE));
+        if (status == SnapshotStatus.STARTED && snapshotId == null && (signalId.equals(id) || listsDataCollections(data))) {
+            snapshotId = id;
+        }
+        if (snapshotId == null || !snapshotId.equals(id)) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        switch (status) {
+            case IN_PROGRESS -> progress(data, IncrementalSnapshotNotificationService.CURRENT_COLLECTION_IN_PROGRESS)
+                    .ifPresent(progress -> progress.chunk(now));
+            case TABLE_SCAN_COMPLETED -> progress(data, IncrementalSnapshotNotificationService.SCANNED_COLLECTION)
+                    .ifPresent(progress -> progress.scanned(now, data.get(IncrementalSnapshotNotificationService.TOTAL_ROWS_SCANNED)));
+            case COMPLETED -> complete(now);
+            case ABORTED -> {
+                completed.completeExceptionally(new DebeziumException("Incremental snapshot aborted"));
+                engine.removeListener(this);
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * @return whether the notified data collections are those of this snapshot, fully qualified or not
+     */
+    private boolean listsDataCollections(Map<String, String> data) {
+        String notified = data == null ? null : data.get(IncrementalSnapshotNotificationService.DATA_COLLECTIONS);
+        if (notified == null) {
+            return false;
+        }
+
+        List<String> ids = Arrays.stream(notified.split(IncrementalSnapshotNotificationService.LIST_DELIMITER)).map(String::trim).toList();
+
+        return ids.size() == dataCollections.size()
+                && dataCollections.keySet().stream().allMatch(expected -> ids.stream().anyMatch(id -> id.equals(expected) || id.endsWith("." + expected)));
+    }
+
+    private Optional<DataCollectionProgress> progress(Map<String, String> data, String key) {
+        String id = data == null ? null : data.get(key);
+
+        return Optional.ofNullable(id).map(this::find);
+    }
+
+    private DataCollectionProgress find(String id) {
+        DataCollectionProgress progress = dataCollections.get(id);
+        if (progress != null) {
+            return progress;
+        }
+
+        return dataCollections.values().stream().filter(candidate -> id.endsWith("." + candidate.id)).findFirst().orElse(null);
+    }
+
+    private void complete(Instant now) {
+        completed.complete(now);
+        engine.removeListener(this);
+    }
+
+    private static boolean isIncremental(Struct value) {
+        Field sourceField = value.schema().field(SOURCE);
+        if (sourceField == null || !(value.get(sourceField) instanceof Struct source)) {
+            return false;
+        }
+
+        Field snapshotField = source.schema().field(SNAPSHOT);
+
+        return snapshotField != null && INCREMENTAL.equals(source.get(snapshotField));
+    }
+
+    public Set<String> dataCollections() {
+        return dataCollections.keySet();
+    }
+
+    /**
+     * @return the number of chunks of the data collection read so far
+     */
+    public long chunks(String dataCollection) {
+        return get(dataCollection).chunks.get();
+    }
+
+    /**
+     * @return the number of snapshot events of the data collection consumed so far
+     */
+    public long rows(String dataCollection) {
+        return get(dataCollection).rows.get();
+    }
+
+    /**
+     * @return the number of rows the connector reported scanned once the data collection completed, {@code -1} before
+     */
+    public long rowsScanned(String dataCollection) {
+        return get(dataCollection).rowsScanned;
+    }
+
+    /**
+     * @return time from the first chunk to the end of the data collection scan, empty while not completed
+     */
+    public Optional<Duration> duration(String dataCollection) {
+        DataCollectionProgress progress = get(dataCollection);
+        Instant first = progress.firstChunkAt;
+        Instant scanned = progress.scannedAt;
+
+        return first == null || scanned == null ? Optional.empty() : Optional.of(Duration.between(first, scanned));
+    }
+
+    public double rowsPerSecond(String dataCollection) {
+        long rows = Math.max(rowsScanned(dataCollection), rows(dataCollection));
+
+        return duration(dataCollection)
+                .map(duration -> rows * 1000.0 / Math.max(duration.toMillis(), 1))
+                .orElse(0.0);
+    }
+
+    public boolean isCompleted() {
+        return completed.isDone() && !completed.isCompletedExceptionally();
+    }
+
+    /**
+     * Blocks until the connector notifies the end of the snapshot.
+     *
+     * @throws DebeziumException if the snapshot is aborted, or not completed within the timeout
+     */
+    public IncrementalSnapshotProgress await(Duration timeout) {
+        try {
+            completed.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+            return this;
+        }
+        catch (TimeoutException e) {
+            throw new DebeziumException("Incremental snapshot not completed within " + timeout + ": " + this, e);
+        }
+        catch (ExecutionException e) {
+            throw new DebeziumException("Incremental snapshot failed: " + this, e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DebeziumException("Interrupted while waiting for the incremental snapshot", e);
+        }
+    }
+
+    /**
+     * Sends the {@code stop-snapshot} signal for the data collections.
+     */
+    public void stop() {
+        engine.getSignaler().signal(new DebeziumEngine.Signal(UUID.randomUUID().toString(), IncrementalSnapshot.STOP_SNAPSHOT,
+                IncrementalSnapshot.stopData(dataCollections.keySet()), null));
+    }
+
+    /**
+     * Stops following the snapshot, without stopping it.
+     */
+    @Override
+    public void close() {
+        engine.removeListener(this);
+    }
+
+    private DataCollectionProgress get(String dataCollection) {
+        DataCollectionProgress progress = dataCollections.get(dataCollection);
+        if (progress == null) {
+            throw new IllegalArgumentException(dataCollection + " is not part of the snapshot " + dataCollections.keySet());
+        }
+
+        return progress;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("IncrementalSnapshotProgress{");
+        dataCollections.values().forEach(progress -> builder.append(progress.id)
+                .append("=[chunks=").append(progress.chunks.get())
+                .append(", rows=").append(progress.rows.get())
+                .append("] "));
+
+        return builder.append("completed=").append(isCompleted())
+                .append(", elapsed=").append(Duration.between(startedAt, Instant.now()))
+                .append('}').toString();
+    }
+
+    private static class DataCollectionProgress {
+        private final String id;
+        private final AtomicLong chunks = new AtomicLong();
+        private final AtomicLong rows = new AtomicLong();
+        private volatile Instant firstChunkAt;
+        private volatile Instant scannedAt;
+        private volatile long rowsScanned = -1;
+
+        private DataCollectionProgress(String id) {
+            this.id = id;
+        }
+
+        private void chunk(Instant now) {
+            if (firstChunkAt == null) {
+                firstChunkAt = now;
+            }
+            chunks.incrementAndGet();
+        }
+
+        private void scanned(Instant now, String totalRows) {
+            if (firstChunkAt == null) {
+                firstChunkAt = now;
+            }
+            scannedAt = now;
+            if (totalRows != null) {
+                rowsScanned = Long.parseLong(totalRows);
+            }
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package io.debezium.junit;
 
+import java.time.Duration;
+import java.time.Instant;
+
 import org.apache.kafka.connect.source.SourceRecord;
 
+import io.debezium.config.CommonConnectorConfig;
 import io.debezium.engine.DebeziumEngine;
 import io.debezium.engine.RecordChangeEvent;
 
@@ -9,4 +13,31 @@ public interface JunitDebeziumEngine extends DebeziumEngine<RecordChangeEvent<So
     boolean isRunning();
 
     String getConfigurationValue(String key);
+
+    ChangeEventBuffer getChangeEventBuffer();
+
+    BatchStatistics getBatchStatistics();
+
+    JunitDebeziumEngineMetrics getMetrics();
+
+    EngineLifecycle getLifecycle();
+
+    Instant awaitPhase(EnginePhase phase, Duration timeout);
+
+    /**
+     * @return a new expectation on the change events consumed from now on
+     */
+    ChangeEventExpectation expect();
+
+    /**
+     * @return a new ad hoc incremental snapshot, sent through the {@link #getSignaler() signaler} once started
+     */
+    IncrementalSnapshot incrementalSnapshot();
+
+    /**
+     * @return the name of a topic prefixed with the engine topic prefix, e.g. {@code public.customers}
+     */
+    default String topic(String name) {
+        return getConfigurationValue(CommonConnectorConfig.TOPIC_PREFIX.name()) + "." + name;
+    }
 }
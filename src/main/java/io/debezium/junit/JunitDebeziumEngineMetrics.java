@@ -0,0 +1,249 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import io.debezium.data.Envelope.Operation;
+
+/**
+ * Throughput and latency of a test engine, updated without allocation on the engine thread.
+ * Events without an operation (heartbeats, schema changes, tombstones) are counted with a {@code null} operation.
+ */
+public class JunitDebeziumEngineMetrics {
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final Map<String, LongAdder[]> events = new ConcurrentHashMap<>();
+    private final LatencyHistogram lag = new LatencyHistogram();
+    private final LatencyHistogram offsetCommits = new LatencyHistogram();
+    private final BatchStatistics batchStatistics;
+    private final EngineLifecycle lifecycle;
+    private final List<PipelineStageStatistics> pipeline;
+    private final Footprint footprint;
+
+    JunitDebeziumEngineMetrics(BatchStatistics batchStatistics, EngineLifecycle lifecycle, List<PipelineStageStatistics> pipeline,
+                               Footprint footprint) {
+        this.batchStatistics = batchStatistics;
+        this.lifecycle = lifecycle;
+        this.pipeline = pipeline;
+        this.footprint = footprint;
+    }
+
+    void record(SourceRecord record) {
+        LongAdder[] counters = events.get(record.topic());
+        if (counters == null) {
+            counters = events.computeIfAbsent(record.topic(), ignore -> newCounters());
+        }
+
+        if (!(record.value() instanceof Struct value)) {
+            counters[OPERATIONS.length].increment();
+            return;
+        }
+
+        counters[operationIndex(value)].increment();
+
+        Field sourceField = value.schema().field("source");
+        if (sourceField != null && value.get(sourceField) instanceof Struct source) {
+            Field timestampField = source.schema().field("ts_ms");
+            if (timestampField != null && source.get(timestampField) instanceof Long timestamp) {
+                lag.record(System.currentTimeMillis() - timestamp);
+            }
+        }
+    }
+
+    void recordOffsetCommit(long nanos) {
+        offsetCommits.record(nanos);
+    }
+
+    public Set<String> topics() {
+        return Collections.unmodifiableSet(events.keySet());
+    }
+
+    public long events() {
+        return events.values()
+                .stream()
+                .mapToLong(JunitDebeziumEngineMetrics::sum)
+                .sum();
+    }
+
+    public long events(String topic) {
+        LongAdder[] counters = events.get(topic);
+
+        return counters == null ? 0 : sum(counters);
+    }
+
+    /**
+     * @param operation the operation, {@code null} for events without operation
+     */
+    public long events(String topic, Operation operation) {
+        LongAdder[] counters = events.get(topic);
+
+        return counters == null ? 0 : counters[operation == null ? OPERATIONS.length : operation.ordinal()].sum();
+    }
+
+    /**
+     * @return milliseconds between the change in the source ({@code source.ts_ms}) and its consumption
+     */
+    public LatencyHistogram lag() {
+        return lag;
+    }
+
+    /**
+     * @return nanoseconds spent committing the offsets of a batch, only recorded in {@link ConsumptionMode#BATCH}
+     */
+    public LatencyHistogram offsetCommits() {
+        return offsetCommits;
+    }
+
+    /**
+     * @return cost of every transform and of the serialization, in pipeline order, empty without any
+     */
+    public List<PipelineStageStatistics> pipeline() {
+        return pipeline;
+    }
+
+    /**
+     * @return memory and thread footprint, empty unless enabled with {@link DebeziumIntegrationTest#footprint()} or a
+     * {@link PerformanceBudget}
+     */
+    public Footprint footprint() {
+        return footprint;
+    }
+
+    public BatchStatistics batches() {
+        return batchStatistics;
+    }
+
+    /**
+     * @return time elapsed from the engine start to the phase, empty if not reached yet
+     */
+    public Optional<Duration> timeTo(EnginePhase phase) {
+        Instant started = lifecycle.startedAt();
+
+        return lifecycle.reachedAt(phase)
+                .filter(reached -> started != null)
+                .map(reached -> Duration.between(started, reached));
+    }
+
+    /**
+     * @return time elapsed from the previous phase reached, or from the engine start for the first one, to the phase:
+     * {@code timeIn(SNAPSHOT_COMPLETED)} is the duration of the snapshot, from {@link EnginePhase#TASK_STARTED}. Empty
+     * if not reached yet
+     */
+    public Optional<Duration> timeIn(EnginePhase phase) {
+        Duration previous = Duration.ZERO;
+        for (int i = phase.ordinal() - 1; i >= 0; i--) {
+            Optional<Duration> reached = timeTo(EnginePhase.values()[i]);
+            if (reached.isPresent()) {
+                previous = reached.get();
+                break;
+            }
+        }
+
+        Duration since = previous;
+
+        return timeTo(phase).map(reached -> reached.minus(since));
+    }
+
+    /**
+     * @return time elapsed from the engine start to the first consumed change event, empty if none yet
+     */
+    public Optional<Duration> timeToFirstEvent() {
+        Instant started = lifecycle.startedAt();
+
+        return lifecycle.firstEventAt()
+                .filter(first -> started != null)
+                .map(first -> Duration.between(started, first));
+    }
+
+    /**
+     * @return time elapsed from the engine start to every phase reached so far
+     */
+    public Map<EnginePhase, Duration> phases() {
+        Map<EnginePhase, Duration> phases = new EnumMap<>(EnginePhase.class);
+
+        for (EnginePhase phase : EnginePhase.values()) {
+            timeTo(phase).ifPresent(duration -> phases.put(phase, duration));
+        }
+
+        return phases;
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[OPERATIONS.length + 1];
+
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+
+        return counters;
+    }
+
+    /**
+     * @return the operation of a change event, {@code null} for events without operation
+     */
+    static Operation operation(SourceRecord record) {
+        if (!(record.value() instanceof Struct value)) {
+            return null;
+        }
+
+        int index = operationIndex(value);
+
+        return index == OPERATIONS.length ? null : OPERATIONS[index];
+    }
+
+    private static int operationIndex(Struct value) {
+        Field opField = value.schema().field("op");
+        if (opField == null || !(value.get(opField) instanceof String code) || code.length() != 1) {
+            return OPERATIONS.length;
+        }
+
+        return switch (code.charAt(0)) {
+            case 'r' -> Operation.READ.ordinal();
+            case 'c' -> Operation.CREATE.ordinal();
+            case 'u' -> Operation.UPDATE.ordinal();
+            case 'd' -> Operation.DELETE.ordinal();
+            case 't' -> Operation.TRUNCATE.ordinal();
+            case 'm' -> Operation.MESSAGE.ordinal();
+            default -> OPERATIONS.length;
+        };
+    }
+
+    private static long sum(LongAdder[] counters) {
+        long sum = 0;
+
+        for (LongAdder counter : counters) {
+            sum += counter.sum();
+        }
+
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        return "JunitDebeziumEngineMetrics{" +
+                "events=" + events() +
+                ", lag=" + lag +
+                ", batches=" + batchStatistics +
+                ", offsetCommits=" + offsetCommits +
+                ", phases=" + phases() +
+                '}';
+    }
+}
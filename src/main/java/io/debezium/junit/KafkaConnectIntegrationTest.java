@@ -13,8 +13,43 @@ import java.lang.annotation.Target;
 
 import org.junit.jupiter.api.extension.ExtendWith;
 
+/**
+ * Deploys the connector under test to a Kafka Connect container, the connector plugin being bound from
+ * {@code target/test-connector}, and injects a {@link KafkaTopicConsumer} of the output topics. Kafka and Kafka
+ * Connect are started once and shared by the test classes, the connector is deployed for the class only.
+ */
 @Target(ElementType.TYPE)
 @ExtendWith({ KafkaConnectTestExtension.class })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface KafkaConnectIntegrationTest {
+
+    /**
+     * Name of the connector class, as found by Kafka Connect in the plugin directory.
+     */
+    String value();
+
+    /**
+     * Name of the connector, defaults to the test class simple name.
+     */
+    String name() default "";
+
+    DebeziumConfiguration[] configuration() default {};
+
+    /**
+     * {@code tasks.max} of the connector, unless set in the {@link #configuration()}. The deployment waits for that many
+     * tasks to run.
+     */
+    int tasks() default 1;
+
+    /**
+     * Topics consumed from the start of the class, others are consumed with {@link KafkaTopicConsumer#consume(String...)}.
+     */
+    String[] topics() default {};
+
+    /**
+     * Keeps the consumed records for {@link KafkaTopicConsumer#records(String)}, disable to only count them in throughput tests.
+     */
+    boolean retainRecords() default true;
+
+    long startupTimeoutMillis() default 60_000;
 }
@@ -6,7 +6,119 @@
 
 package io.debezium.junit;
 
-import org.junit.jupiter.api.extension.Extension;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
 
-class KafkaConnectTestExtension implements Extension {
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * Starts Kafka and Kafka Connect once for the suite, deploys the connector of the test class and consumes its topics.
+ */
+class KafkaConnectTestExtension implements BeforeAllCallback, AfterAllCallback, ParameterResolver {
+    private static final Namespace NAMESPACE = Namespace.create(KafkaConnectTestExtension.class);
+    private static final String CONSUMER = "consumer";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        KafkaConnectIntegrationTest annotation = context.getRequiredTestClass().getAnnotation(KafkaConnectIntegrationTest.class);
+        String name = annotation.name().isEmpty() ? context.getRequiredTestClass().getSimpleName() : annotation.name();
+        Duration timeout = Duration.ofMillis(annotation.startupTimeoutMillis());
+
+        KafkaContainerHandler kafka = context.getRoot()
+                .getStore(NAMESPACE)
+                .getOrComputeIfAbsent(KafkaCluster.class, ignore -> KafkaCluster.start(), KafkaCluster.class)
+                .handler();
+
+        Map<String, String> configuration = Arrays.stream(annotation.configuration())
+                .collect(Collectors.toMap(DebeziumConfiguration::name, DebeziumConfiguration::value, (v1, v2) -> v2, LinkedHashMap::new));
+        configuration.put("connector.class", annotation.value());
+        configuration.putIfAbsent("tasks.max", String.valueOf(annotation.tasks()));
+
+        // a tasks.max in the configuration wins over the annotation, and is the number of tasks to wait for
+        kafka.deploy(name, configuration, Integer.parseInt(configuration.get("tasks.max")), timeout);
+        // registered once deployed, and deleted after the consumer is closed, store resources being closed in reverse order
+        context.getStore(NAMESPACE).put(DeployedConnector.class, new DeployedConnector(kafka, name));
+
+        KafkaTopicConsumer consumer = new KafkaTopicConsumer(kafka.bootstrapServers(), annotation.retainRecords(), timeout);
+        context.getStore(NAMESPACE).put(CONSUMER, new ClosingConsumer(consumer));
+        consumer.consume(annotation.topics());
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        ClosingConsumer closing = context.getStore(NAMESPACE).get(CONSUMER, ClosingConsumer.class);
+        if (closing == null) {
+            return;
+        }
+
+        KafkaTopicConsumer consumer = closing.consumer();
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (PartitionThroughput partition : consumer.throughput()) {
+            String prefix = "debezium.kafka." + partition.topic() + "-" + partition.partition() + ".";
+            entries.put(prefix + "records", String.valueOf(partition.records()));
+            entries.put(prefix + "recordsPerSecond", String.format("%.1f", partition.recordsPerSecond()));
+            entries.put(prefix + "bytesPerSecond", String.format("%.1f", partition.bytesPerSecond()));
+        }
+        entries.put("debezium.kafka.lag.p50", String.valueOf(consumer.lag().percentile(50)));
+        entries.put("debezium.kafka.lag.p99", String.valueOf(consumer.lag().percentile(99)));
+        entries.put("debezium.kafka.lag.max", String.valueOf(consumer.lag().max()));
+
+        context.publishReportEntry(entries);
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws ParameterResolutionException {
+        return parameterContext.getParameter().getType().equals(KafkaTopicConsumer.class);
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws ParameterResolutionException {
+        ClosingConsumer closing = extensionContext.getStore(NAMESPACE).get(CONSUMER, ClosingConsumer.class);
+        if (closing == null) {
+            throw new ParameterResolutionException("Kafka Connect connector not deployed");
+        }
+
+        return closing.consumer();
+    }
+
+    private record KafkaCluster(KafkaContainerHandler handler) implements CloseableResource {
+
+        static KafkaCluster start() {
+            KafkaContainerHandler handler = new KafkaContainerHandler();
+            handler.start();
+
+            return new KafkaCluster(handler);
+        }
+
+        @Override
+        public void close() {
+            handler.stop();
+        }
+    }
+
+    private record DeployedConnector(KafkaContainerHandler kafka, String name) implements CloseableResource {
+
+        @Override
+        public void close() {
+            kafka.undeploy(name);
+        }
+    }
+
+    private record ClosingConsumer(KafkaTopicConsumer consumer) implements CloseableResource {
+
+        @Override
+        public void close() {
+            consumer.close();
+        }
+    }
 }
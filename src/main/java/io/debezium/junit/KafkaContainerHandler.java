@@ -7,10 +7,11 @@
 package io.debezium.junit;
 
 
-import java.util.Collections;
+import java.time.Duration;
 import java.util.Map;
 import java.util.stream.Stream;
 
+import org.awaitility.Awaitility;
 import org.testcontainers.containers.KafkaContainer;
 import org.testcontainers.containers.Network;
 import org.testcontainers.lifecycle.Startables;
@@ -20,41 +21,82 @@ import io.debezium.testing.testcontainers.Connector;
 import io.debezium.testing.testcontainers.ConnectorConfiguration;
 import io.debezium.testing.testcontainers.DebeziumContainer;
 
+/**
+ * Kafka and Kafka Connect containers on their own network. They are started once and owned by the root store of the
+ * {@link KafkaConnectTestExtension}, every test class, in parallel or not, shares them and they are stopped when the
+ * suite ends.
+ */
 class KafkaContainerHandler implements DebeziumTestResourceLifecycleManager {
 
     private static final String KAFKA_IMAGE = "confluentinc/cp-kafka:7.2.0";
-    private static final String CONNECT_IMAGE = "debezium/connect-base:1.9.5.Final";
+    // runs Java 21, the release the test connector is compiled to
+    private static final String CONNECT_IMAGE = "quay.io/debezium/connect-base:3.0.8.Final";
 
-    private static final Network network = Network.newNetwork();
-    private static final KafkaContainer kafkaContainer = new KafkaContainer(DockerImageName.parse(KAFKA_IMAGE))
-            .withNetwork(network);
+    private Network network;
+    private KafkaContainer kafkaContainer;
+    private DebeziumContainer connectContainer;
 
-    public static DebeziumContainer connectContainer = new DebeziumContainer(CONNECT_IMAGE)
-            .withFileSystemBind("target/test-connector", "/kafka/connect/test-connector")
-            .withNetwork(network)
-            .withKafka(kafkaContainer)
-            .dependsOn(kafkaContainer);
+    DebeziumContainer connectContainer() {
+        return connectContainer;
+    }
+
+    String bootstrapServers() {
+        return kafkaContainer.getBootstrapServers();
+    }
 
     @Override
     public Map<String, String> start() {
-        Startables.deepStart(Stream.of(kafkaContainer, connectContainer));
+        network = Network.newNetwork();
+        kafkaContainer = new KafkaContainer(DockerImageName.parse(KAFKA_IMAGE))
+                .withNetwork(network);
+        connectContainer = new DebeziumContainer(CONNECT_IMAGE)
+                .withFileSystemBind("target/test-connector", "/kafka/connect/test-connector")
+                .withNetwork(network)
+                .withKafka(kafkaContainer)
+                .dependsOn(kafkaContainer);
 
-        ConnectorConfiguration connector = ConnectorConfiguration
-                .from(Collections.emptyMap())
-                .with("connector.class", "example")
-                .with("clusters", "test-etcd=http://etcd:2379")
-                .with("tasks.max", "2")
-                .with("key.converter", "org.apache.kafka.connect.storage.StringConverter")
-                .with("value.converter", "org.apache.kafka.connect.storage.StringConverter");
+        Startables.deepStart(Stream.of(kafkaContainer, connectContainer)).join();
 
-        connectContainer.registerConnector("test-connector", connector);
-        connectContainer.ensureConnectorTaskState("test-connector", 0, Connector.State.RUNNING);
+        return Map.of("bootstrap.servers", kafkaContainer.getBootstrapServers());
+    }
 
-        return Map.of();
+    /**
+     * Registers the connector and waits until all its tasks are running, the connector is deleted if they don't.
+     */
+    void deploy(String name, Map<String, String> configuration, int tasks, Duration timeout) {
+        ConnectorConfiguration connector = ConnectorConfiguration.from(configuration);
+
+        connectContainer.registerConnector(name, connector);
+        try {
+            Awaitility.await()
+                    .atMost(timeout)
+                    .untilAsserted(() -> {
+                        for (int task = 0; task < tasks; task++) {
+                            connectContainer.ensureConnectorTaskState(name, task, Connector.State.RUNNING);
+                        }
+                    });
+        }
+        catch (RuntimeException e) {
+            // the containers are shared, a connector failing to start must not outlive its class
+            connectContainer.deleteConnector(name);
+            throw e;
+        }
+    }
+
+    void undeploy(String name) {
+        connectContainer.deleteConnector(name);
     }
 
     @Override
     public void stop() {
-
+        if (connectContainer != null) {
+            connectContainer.stop();
+        }
+        if (kafkaContainer != null) {
+            kafkaContainer.stop();
+        }
+        if (network != null) {
+            network.close();
+        }
     }
 }
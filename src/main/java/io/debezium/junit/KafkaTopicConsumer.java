@@ -0,0 +1,265 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+
+import io.debezium.DebeziumException;
+
+/**
+ * Consumer of the topics written by the connector under test: every partition is read from its beginning by its own
+ * consumer on its own thread. The produce-to-consume lag is the consumption time minus the record timestamp.
+ */
+public class KafkaTopicConsumer implements AutoCloseable {
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+
+    private final String bootstrapServers;
+    private final boolean retainRecords;
+    private final Duration topicTimeout;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, TopicRecords> topics = new ConcurrentHashMap<>();
+    private final List<PartitionReader> readers = new ArrayList<>();
+    private final LatencyHistogram lag = new LatencyHistogram();
+    private final Lock lock = new ReentrantLock();
+    private final Condition consumed = lock.newCondition();
+    private volatile boolean closed;
+
+    KafkaTopicConsumer(String bootstrapServers, boolean retainRecords, Duration topicTimeout) {
+        this.bootstrapServers = bootstrapServers;
+        this.retainRecords = retainRecords;
+        this.topicTimeout = topicTimeout;
+    }
+
+    /**
+     * Starts consuming the topics, waiting for them to be created by the connector.
+     */
+    public synchronized KafkaTopicConsumer consume(String... topicNames) {
+        for (String topic : topicNames) {
+            if (topics.containsKey(topic)) {
+                continue;
+            }
+            topics.put(topic, new TopicRecords());
+
+            for (PartitionInfo partition : partitionsOf(topic)) {
+                PartitionReader reader = new PartitionReader(new TopicPartition(topic, partition.partition()));
+                readers.add(reader);
+                executor.execute(reader);
+            }
+        }
+
+        return this;
+    }
+
+    private List<PartitionInfo> partitionsOf(String topic) {
+        long deadline = System.nanoTime() + topicTimeout.toNanos();
+
+        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(properties())) {
+            while (true) {
+                List<PartitionInfo> partitions = consumer.listTopics(POLL_TIMEOUT).get(topic);
+                if (partitions != null && !partitions.isEmpty()) {
+                    return partitions;
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new DebeziumException("Topic " + topic + " not created within " + topicTimeout);
+                }
+                Thread.sleep(POLL_TIMEOUT.toMillis());
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DebeziumException("Interrupted while waiting for topic " + topic, e);
+        }
+    }
+
+    private Properties properties() {
+        Properties properties = new Properties();
+        properties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, "2000");
+
+        return properties;
+    }
+
+    /**
+     * @return the records consumed so far, in consumption order across partitions, empty if records are not retained
+     */
+    public List<ConsumerRecord<String, String>> records(String topic) {
+        return List.copyOf(topicRecords(topic).records);
+    }
+
+    public long count(String topic) {
+        return topicRecords(topic).count.get();
+    }
+
+    /**
+     * Blocks until at least {@code count} records of the topic are consumed.
+     *
+     * @throws DebeziumException if they are not consumed within the timeout
+     */
+    public void await(String topic, long count, Duration timeout) {
+        TopicRecords records = topicRecords(topic);
+        long remaining = timeout.toNanos();
+
+        lock.lock();
+        try {
+            while (records.count.get() < count) {
+                if (remaining <= 0) {
+                    throw new DebeziumException("Consumed " + records.count.get() + " of " + count + " records of " + topic + " within " + timeout);
+                }
+                remaining = consumed.awaitNanos(remaining);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DebeziumException("Interrupted while consuming " + topic, e);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return produce-to-consume lag of the consumed records, in milliseconds
+     */
+    public LatencyHistogram lag() {
+        return lag;
+    }
+
+    public List<PartitionThroughput> throughput() {
+        List<PartitionReader> snapshot;
+        synchronized (this) {
+            snapshot = List.copyOf(readers);
+        }
+
+        return snapshot.stream()
+                .map(PartitionReader::throughput)
+                .sorted(Comparator.comparing(PartitionThroughput::topic).thenComparingInt(PartitionThroughput::partition))
+                .toList();
+    }
+
+    private TopicRecords topicRecords(String topic) {
+        TopicRecords records = topics.get(topic);
+        if (records == null) {
+            throw new IllegalArgumentException(topic + " is not consumed, consumed topics are " + topics.keySet());
+        }
+
+        return records;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (this) {
+            readers.forEach(PartitionReader::wakeup);
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class TopicRecords {
+        private final ConcurrentLinkedQueue<ConsumerRecord<String, String>> records = new ConcurrentLinkedQueue<>();
+        private final AtomicLong count = new AtomicLong();
+    }
+
+    private class PartitionReader implements Runnable {
+        private final TopicPartition partition;
+        private final KafkaConsumer<String, String> consumer;
+        private final AtomicLong records = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private volatile long firstNanos;
+        private volatile long lastNanos;
+
+        private PartitionReader(TopicPartition partition) {
+            this.partition = partition;
+            this.consumer = new KafkaConsumer<>(properties());
+        }
+
+        @Override
+        public void run() {
+            TopicRecords topicRecords = topics.get(partition.topic());
+
+            try (consumer) {
+                consumer.assign(List.of(partition));
+                consumer.seekToBeginning(List.of(partition));
+
+                while (!closed) {
+                    ConsumerRecords<String, String> polled = consumer.poll(POLL_TIMEOUT);
+                    if (polled.isEmpty()) {
+                        continue;
+                    }
+
+                    long now = System.currentTimeMillis();
+                    for (ConsumerRecord<String, String> record : polled) {
+                        lag.record(now - record.timestamp());
+                        bytes.addAndGet(Math.max(record.serializedKeySize(), 0) + Math.max(record.serializedValueSize(), 0));
+                        if (retainRecords) {
+                            topicRecords.records.add(record);
+                        }
+                    }
+
+                    long nanos = System.nanoTime();
+                    if (records.getAndAdd(polled.count()) == 0) {
+                        firstNanos = nanos;
+                    }
+                    lastNanos = nanos;
+                    topicRecords.count.addAndGet(polled.count());
+
+                    lock.lock();
+                    try {
+                        consumed.signalAll();
+                    }
+                    finally {
+                        lock.unlock();
+                    }
+                }
+            }
+            catch (WakeupException e) {
+                // closed
+            }
+        }
+
+        private void wakeup() {
+            consumer.wakeup();
+        }
+
+        private PartitionThroughput throughput() {
+            return new PartitionThroughput(partition.topic(), partition.partition(), records.get(), bytes.get(),
+                    Duration.ofNanos(lastNanos - firstNanos));
+        }
+    }
+}
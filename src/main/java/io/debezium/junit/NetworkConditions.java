@@ -0,0 +1,32 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.time.Duration;
+
+/**
+ * Conditions of the link simulated by a {@link NetworkProxy}, in each direction.
+ *
+ * @param latency one way delay added to every forwarded chunk of bytes
+ * @param jitter maximum random deviation from the latency, chunks of a connection are never reordered
+ * @param bytesPerSecond bandwidth shared by all the connections, {@code 0} for unlimited
+ */
+public record NetworkConditions(Duration latency, Duration jitter, long bytesPerSecond) {
+    public static final NetworkConditions NONE = new NetworkConditions(Duration.ZERO, Duration.ZERO, 0);
+
+    public NetworkConditions withLatency(Duration latency) {
+        return new NetworkConditions(latency, jitter, bytesPerSecond);
+    }
+
+    public NetworkConditions withJitter(Duration jitter) {
+        return new NetworkConditions(latency, jitter, bytesPerSecond);
+    }
+
+    public NetworkConditions withBandwidth(long bytesPerSecond) {
+        return new NetworkConditions(latency, jitter, bytesPerSecond);
+    }
+}
@@ -0,0 +1,486 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local TCP proxy shaping the link to a target: every chunk of bytes read from one side is delayed by the latency and
+ * jitter of the {@link NetworkConditions}, then written to the other side within the bandwidth. The conditions can be
+ * changed and the link paused while connections are open. All connections are served by a single selector thread.
+ */
+public class NetworkProxy implements Closeable {
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_QUEUED_BYTES = 4 * 1024 * 1024;
+
+    private final InetSocketAddress target;
+    private final ServerSocketChannel server;
+    private final Selector selector;
+    private final Thread thread;
+    private final List<Connection> connections = new ArrayList<>();
+    private final TokenBucket upstreamBandwidth = new TokenBucket();
+    private final TokenBucket downstreamBandwidth = new TokenBucket();
+    private final AtomicLong upstreamBytes = new AtomicLong();
+    private final AtomicLong downstreamBytes = new AtomicLong();
+    private final AtomicLong accepted = new AtomicLong();
+    private volatile NetworkConditions conditions;
+    private volatile boolean paused;
+    private volatile boolean closed;
+
+    NetworkProxy(String host, int port, NetworkConditions conditions) {
+        this.target = new InetSocketAddress(host, port);
+        this.conditions = conditions;
+
+        try {
+            this.selector = Selector.open();
+            this.server = ServerSocketChannel.open();
+            server.bind(new InetSocketAddress("127.0.0.1", 0));
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.thread = Thread.ofPlatform()
+                .name("network-proxy-" + host + "-" + port)
+                .daemon()
+                .start(this::run);
+    }
+
+    public String host() {
+        return "127.0.0.1";
+    }
+
+    public int port() {
+        return server.socket().getLocalPort();
+    }
+
+    public NetworkConditions conditions() {
+        return conditions;
+    }
+
+    /**
+     * Applies to the bytes read from now on, bytes already delayed keep their delivery time.
+     */
+    public void conditions(NetworkConditions conditions) {
+        this.conditions = conditions;
+        selector.wakeup();
+    }
+
+    /**
+     * Stops forwarding in both directions, connections stay open and bytes are kept until {@link #resume()}.
+     */
+    public void pause() {
+        paused = true;
+        selector.wakeup();
+    }
+
+    public void resume() {
+        paused = false;
+        selector.wakeup();
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * @return bytes forwarded from the clients to the target
+     */
+    public long upstreamBytes() {
+        return upstreamBytes.get();
+    }
+
+    /**
+     * @return bytes forwarded from the target to the clients
+     */
+    public long downstreamBytes() {
+        return downstreamBytes.get();
+    }
+
+    public long connections() {
+        return accepted.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        selector.wakeup();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            while (!closed) {
+                selector.select(nextWakeupMillis());
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    }
+                    else if (key.attachment() instanceof Connection connection) {
+                        if (key.isConnectable()) {
+                            connection.finishConnect();
+                        }
+                        if (key.isValid() && key.isReadable()) {
+                            connection.read((SocketChannel) key.channel());
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.writable((SocketChannel) key.channel(), System.nanoTime());
+                        }
+                    }
+                }
+
+                long now = System.nanoTime();
+                connections.forEach(connection -> connection.flush(now));
+                connections.removeIf(Connection::closeIfDone);
+                connections.forEach(Connection::updateInterests);
+            }
+        }
+        catch (IOException e) {
+            if (!closed) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        finally {
+            connections.forEach(Connection::close);
+            closeQuietly(server);
+            closeQuietly(selector);
+        }
+    }
+
+    /**
+     * @return milliseconds until the next chunk can be written, {@code 0} to wait for a selected channel or a wakeup;
+     *         chunks waiting for a full socket buffer to drain are woken up by the selector
+     */
+    private long nextWakeupMillis() {
+        if (paused) {
+            return 0;
+        }
+
+        long now = System.nanoTime();
+        long next = Long.MAX_VALUE;
+        for (Connection connection : connections) {
+            next = Math.min(next, connection.upstream.nextWriteNanos(now));
+            next = Math.min(next, connection.downstream.nextWriteNanos(now));
+        }
+
+        return next == Long.MAX_VALUE ? 0 : Math.max(TimeUnit.NANOSECONDS.toMillis(next - now), 1);
+    }
+
+    private void accept() throws IOException {
+        SocketChannel client = server.accept();
+        if (client == null) {
+            return;
+        }
+
+        // connected without blocking the selector thread, a slow target must not stall the other connections
+        SocketChannel upstream = SocketChannel.open();
+        boolean connected;
+        try {
+            upstream.configureBlocking(false);
+            connected = upstream.connect(target);
+        }
+        catch (IOException e) {
+            closeQuietly(upstream);
+            closeQuietly(client);
+            return;
+        }
+
+        client.configureBlocking(false);
+        client.socket().setTcpNoDelay(true);
+
+        Connection connection = new Connection(client, upstream);
+        connection.clientKey = client.register(selector, 0, connection);
+        connection.targetKey = upstream.register(selector, SelectionKey.OP_CONNECT, connection);
+        if (connected) {
+            connection.connected();
+        }
+        connections.add(connection);
+        accepted.incrementAndGet();
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        }
+        catch (IOException e) {
+            // nothing left to release
+        }
+    }
+
+    private class Connection {
+        private final SocketChannel client;
+        private final SocketChannel target;
+        private final Pipe upstream;
+        private final Pipe downstream;
+        private SelectionKey clientKey;
+        private SelectionKey targetKey;
+        private boolean connected;
+        private boolean failed;
+
+        private Connection(SocketChannel client, SocketChannel target) {
+            this.client = client;
+            this.target = target;
+            this.upstream = new Pipe(client, target, upstreamBandwidth, upstreamBytes);
+            this.downstream = new Pipe(target, client, downstreamBandwidth, downstreamBytes);
+        }
+
+        private void finishConnect() {
+            try {
+                if (target.finishConnect()) {
+                    connected();
+                }
+            }
+            catch (IOException e) {
+                failed = true;
+            }
+        }
+
+        private void connected() throws IOException {
+            connected = true;
+            target.socket().setTcpNoDelay(true);
+        }
+
+        private void read(SocketChannel channel) {
+            (channel == client ? upstream : downstream).read();
+        }
+
+        private void writable(SocketChannel channel, long now) {
+            if (!paused) {
+                (channel == client ? downstream : upstream).flush(now);
+            }
+        }
+
+        private void flush(long now) {
+            if (connected && !paused) {
+                upstream.flush(now);
+                downstream.flush(now);
+            }
+        }
+
+        private void updateInterests() {
+            if (!connected) {
+                return;
+            }
+            if (clientKey.isValid()) {
+                clientKey.interestOps(interests(upstream, downstream));
+            }
+            if (targetKey.isValid()) {
+                targetKey.interestOps(interests(downstream, upstream));
+            }
+        }
+
+        /**
+         * @param reading direction read from the channel
+         * @param writing direction written to the channel, waiting for it to be writable while its socket buffer is full
+         */
+        private int interests(Pipe reading, Pipe writing) {
+            return (reading.canRead() ? SelectionKey.OP_READ : 0) | (!paused && writing.blocked ? SelectionKey.OP_WRITE : 0);
+        }
+
+        private boolean closeIfDone() {
+            if (failed || upstream.failed || downstream.failed || (upstream.isDone() && downstream.isDone())) {
+                close();
+                return true;
+            }
+
+            return false;
+        }
+
+        private void close() {
+            closeQuietly(client);
+            closeQuietly(target);
+        }
+    }
+
+    /**
+     * One direction of a connection.
+     */
+    private class Pipe {
+        private final SocketChannel source;
+        private final SocketChannel sink;
+        private final TokenBucket bandwidth;
+        private final AtomicLong forwarded;
+        private final Deque<Chunk> chunks = new ArrayDeque<>();
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        private long queuedBytes;
+        private long lastDueNanos;
+        private boolean endOfStream;
+        private boolean outputShutdown;
+        private boolean blocked;
+        private boolean failed;
+
+        private Pipe(SocketChannel source, SocketChannel sink, TokenBucket bandwidth, AtomicLong forwarded) {
+            this.source = source;
+            this.sink = sink;
+            this.bandwidth = bandwidth;
+            this.forwarded = forwarded;
+        }
+
+        private boolean canRead() {
+            return !paused && !endOfStream && !failed && queuedBytes < MAX_QUEUED_BYTES;
+        }
+
+        private void read() {
+            try {
+                readBuffer.clear();
+                int read = source.read(readBuffer);
+                if (read < 0) {
+                    endOfStream = true;
+                    return;
+                }
+                if (read == 0) {
+                    return;
+                }
+
+                readBuffer.flip();
+                ByteBuffer bytes = ByteBuffer.allocate(read).put(readBuffer).flip();
+
+                // TCP keeps the order, so does the jitter
+                long due = Math.max(System.nanoTime() + delayNanos(), lastDueNanos);
+                lastDueNanos = due;
+                chunks.add(new Chunk(bytes, due));
+                queuedBytes += read;
+            }
+            catch (IOException e) {
+                failed = true;
+            }
+        }
+
+        private long delayNanos() {
+            NetworkConditions current = conditions;
+            long latency = current.latency().toNanos();
+            long jitter = current.jitter().toNanos();
+
+            return jitter == 0 ? latency : Math.max(latency + ThreadLocalRandom.current().nextLong(-jitter, jitter + 1), 0);
+        }
+
+        private void flush(long now) {
+            blocked = false;
+            try {
+                while (!chunks.isEmpty() && chunks.peek().dueNanos() <= now) {
+                    ByteBuffer bytes = chunks.peek().bytes();
+                    int allowed = (int) Math.min(bytes.remaining(), bandwidth.available(now, conditions.bytesPerSecond()));
+                    if (allowed == 0) {
+                        return;
+                    }
+
+                    ByteBuffer slice = bytes.slice(bytes.position(), allowed);
+                    int written = sink.write(slice);
+                    bytes.position(bytes.position() + written);
+                    bandwidth.consume(written);
+                    queuedBytes -= written;
+                    forwarded.addAndGet(written);
+
+                    if (written < allowed) {
+                        // socket buffer full, retried once the sink is writable
+                        blocked = true;
+                        return;
+                    }
+                    if (bytes.hasRemaining()) {
+                        // bandwidth exhausted, retried on the next wakeup
+                        return;
+                    }
+                    chunks.poll();
+                }
+
+                if (chunks.isEmpty() && endOfStream && !outputShutdown) {
+                    sink.shutdownOutput();
+                    outputShutdown = true;
+                }
+            }
+            catch (IOException e) {
+                failed = true;
+            }
+        }
+
+        private long nextWriteNanos(long now) {
+            if (chunks.isEmpty() || blocked) {
+                return Long.MAX_VALUE;
+            }
+
+            long due = chunks.peek().dueNanos();
+
+            return Math.max(due, bandwidth.nextTokenNanos(now, conditions.bytesPerSecond()));
+        }
+
+        private boolean isDone() {
+            return endOfStream && chunks.isEmpty();
+        }
+    }
+
+    private record Chunk(ByteBuffer bytes, long dueNanos) {
+    }
+
+    /**
+     * Bandwidth shared by the connections in one direction, refilled continuously with a burst of 50ms.
+     */
+    private static class TokenBucket {
+        private static final long BURST_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+        private static final long MIN_BURST_BYTES = 1500;
+
+        private long tokens;
+        private long refilledNanos = System.nanoTime();
+
+        private long available(long now, long bytesPerSecond) {
+            if (bytesPerSecond <= 0) {
+                return Long.MAX_VALUE;
+            }
+
+            long capacity = Math.max(bytesPerSecond * BURST_NANOS / TimeUnit.SECONDS.toNanos(1), MIN_BURST_BYTES);
+            long refill = (now - refilledNanos) * bytesPerSecond / TimeUnit.SECONDS.toNanos(1);
+            if (refill > 0) {
+                tokens = Math.min(tokens + refill, capacity);
+                refilledNanos = now;
+            }
+
+            return tokens;
+        }
+
+        private void consume(long bytes) {
+            tokens = Math.max(tokens - bytes, 0);
+        }
+
+        private long nextTokenNanos(long now, long bytesPerSecond) {
+            if (bytesPerSecond <= 0 || available(now, bytesPerSecond) > 0) {
+                return now;
+            }
+
+            return now + Math.max(TimeUnit.SECONDS.toNanos(1) / bytesPerSecond, 1);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import io.debezium.embedded.EmbeddedEngineConfig;
+
+public enum OffsetStorage {
+    /**
+     * Offsets are lost when the engine stops, every engine start performs the initial snapshot.
+     */
+    MEMORY {
+        @Override
+        Map<String, String> configuration(Path directory, String key, Map<String, String> source) {
+            return Map.of(EmbeddedEngineConfig.OFFSET_STORAGE.name(), "org.apache.kafka.connect.storage.MemoryOffsetBackingStore");
+        }
+    },
+
+    /**
+     * Offsets, and schema history for the connectors using it, are kept in files, so a later engine with the same
+     * storage key resumes streaming instead of snapshotting again. The files are also keyed on the database the
+     * resources point to (host, port and database), a recreated database container gets fresh offsets.
+     */
+    FILE {
+        @Override
+        Map<String, String> configuration(Path directory, String storageKey, Map<String, String> source) {
+            String key = storageKey + sourceSuffix(source);
+            Map<String, String> configuration = new HashMap<>();
+            configuration.put(EmbeddedEngineConfig.OFFSET_STORAGE.name(), "org.apache.kafka.connect.storage.FileOffsetBackingStore");
+            configuration.put(EmbeddedEngineConfig.OFFSET_STORAGE_FILE_FILENAME.name(), directory.resolve(key + ".offsets").toString());
+
+            if (isAvailable(FILE_SCHEMA_HISTORY)) {
+                configuration.put(SCHEMA_HISTORY, FILE_SCHEMA_HISTORY);
+                configuration.put(SCHEMA_HISTORY_FILE, directory.resolve(key + ".history").toString());
+            }
+
+            return configuration;
+        }
+    };
+
+    private static final String SCHEMA_HISTORY = "schema.history.internal";
+    private static final String SCHEMA_HISTORY_FILE = "schema.history.internal.file.filename";
+    private static final String FILE_SCHEMA_HISTORY = "io.debezium.storage.file.history.FileSchemaHistory";
+
+    private static final List<String> SOURCE_KEYS = List.of("database.hostname", "database.port", "database.dbname", "database.names");
+
+    /**
+     * @param source configuration returned by the resources, identifying the database the offsets belong to
+     */
+    abstract Map<String, String> configuration(Path directory, String key, Map<String, String> source);
+
+    private static String sourceSuffix(Map<String, String> source) {
+        String database = SOURCE_KEYS.stream()
+                .map(source::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(":"));
+
+        return database.isEmpty() ? "" : "-" + Integer.toHexString(database.hashCode());
+    }
+
+    private static boolean isAvailable(String className) {
+        try {
+            Class.forName(className, false, OffsetStorage.class.getClassLoader());
+            return true;
+        }
+        catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
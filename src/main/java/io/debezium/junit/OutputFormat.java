@@ -0,0 +1,41 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+/**
+ * Format the change events are serialized to after the transforms, configured with the {@code converter.*} properties.
+ * <p>
+ * Serialization is only measured: it is run to time it, count the bytes produced and fail on records the format
+ * can't represent, then the bytes are discarded. The buffer, the expectations and the listeners still get the Connect
+ * records, never the serialized form.
+ */
+public enum OutputFormat {
+    /**
+     * No serialization.
+     */
+    CONNECT(null),
+    JSON("org.apache.kafka.connect.json.JsonConverter"),
+    /**
+     * Requires the Confluent Avro converter on the classpath and {@code converter.schema.registry.url}.
+     */
+    AVRO("io.confluent.connect.avro.AvroConverter"),
+    CLOUDEVENTS("io.debezium.converters.CloudEventsConverter"),
+    /**
+     * Records with {@code byte[]} keys and values, as emitted by connectors producing raw payloads.
+     */
+    RAW("org.apache.kafka.connect.converters.ByteArrayConverter");
+
+    private final String converterClass;
+
+    OutputFormat(String converterClass) {
+        this.converterClass = converterClass;
+    }
+
+    String converterClass() {
+        return converterClass;
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.time.Duration;
+
+/**
+ * Records consumed from a topic partition, the throughput is measured from the first to the last consumed record.
+ */
+public record PartitionThroughput(String topic, int partition, long records, long bytes, Duration duration) {
+
+    public double recordsPerSecond() {
+        return records * 1000.0 / Math.max(duration.toMillis(), 1);
+    }
+
+    public double bytesPerSecond() {
+        return bytes * 1000.0 / Math.max(duration.toMillis(), 1);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits verified after all the tests of a {@link DebeziumIntegrationTest} class: the class fails if one is exceeded.
+ * Measured values are published as report entries. Unset limits are not verified.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PerformanceBudget {
+
+    /**
+     * Minimum number of snapshot (read) events per second, from {@link EnginePhase#TASK_STARTED} to {@link EnginePhase#SNAPSHOT_COMPLETED}.
+     */
+    double minSnapshotRowsPerSecond() default 0;
+
+    /**
+     * Maximum 99th percentile of the lag between the change in the source and its consumption.
+     */
+    long maxP99LatencyMillis() default Long.MAX_VALUE;
+
+    /**
+     * Maximum time from the engine start to {@link #startupPhase()}.
+     */
+    long maxStartupMillis() default Long.MAX_VALUE;
+
+    EnginePhase startupPhase() default EnginePhase.TASK_STARTED;
+
+    /**
+     * Maximum growth of the used heap, measured after a GC, between the start of the class and the end of its tests.
+     */
+    long maxHeapGrowthMb() default Long.MAX_VALUE;
+
+    /**
+     * Maximum growth of the used heap, measured like {@link #maxHeapGrowthMb()}, per million events consumed by the engines.
+     * Only verified once the engines consumed 100,000 events, below that the noise of the heap measure extrapolated to a
+     * million events would exceed any limit.
+     */
+    double maxHeapGrowthMbPerMillionEvents() default Double.MAX_VALUE;
+
+    /**
+     * Maximum number of connector threads started by an engine and still alive once it is closed. Verified when the
+     * engine is closed, after the class for class scoped engines, and never for {@link EngineScope#SUITE} engines, closed
+     * when the suite ends outside of any class: their leaked threads are only logged. A thread that may belong to
+     * another engine still running is not counted, see {@link Footprint#leakedThreads()}.
+     */
+    int maxLeakedThreads() default Integer.MAX_VALUE;
+
+    /**
+     * Maximum heap, measured after a GC, retained once an engine is closed compared to before it was created, the
+     * change events kept in its buffer included. Verified when the engine is closed, like {@link #maxLeakedThreads()}.
+     */
+    long maxRetainedHeapMb() default Long.MAX_VALUE;
+}
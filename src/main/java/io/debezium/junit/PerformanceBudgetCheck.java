@@ -0,0 +1,173 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.opentest4j.AssertionFailedError;
+
+import io.debezium.data.Envelope.Operation;
+
+/**
+ * Measures a test class against its {@link PerformanceBudget}.
+ */
+class PerformanceBudgetCheck {
+    private static final long MB = 1024 * 1024;
+    static final long MIN_EVENTS_PER_MILLION = 100_000;
+
+    private final PerformanceBudget budget;
+    private final long heapBefore;
+
+    PerformanceBudgetCheck(PerformanceBudget budget) {
+        this.budget = budget;
+        this.heapBefore = usedHeap();
+    }
+
+    /**
+     * Publishes the measured values, then fails if a limit is exceeded. Each engine is held to the budget, the values
+     * are prefixed by the engine name when there are several of them.
+     *
+     * @throws AssertionFailedError listing all the exceeded limits
+     */
+    void verify(Map<String, JunitDebeziumEngine> engines, Consumer<Map<String, String>> reporter) {
+        Map<String, String> report = new LinkedHashMap<>();
+        List<String> violations = new ArrayList<>();
+
+        for (Map.Entry<String, JunitDebeziumEngine> engine : engines.entrySet()) {
+            String prefix = engines.size() > 1 ? engine.getKey() + "." : "";
+            verify(engine.getValue().getMetrics(), prefix, report, violations);
+        }
+
+        if (budget.maxHeapGrowthMb() != Long.MAX_VALUE) {
+            long growthMb = (usedHeap() - heapBefore) / MB;
+
+            report.put("debezium.budget.heapGrowthMb", String.valueOf(growthMb));
+            if (growthMb > budget.maxHeapGrowthMb()) {
+                violations.add("heap growth " + growthMb + "MB > " + budget.maxHeapGrowthMb() + "MB");
+            }
+        }
+
+        if (budget.maxHeapGrowthMbPerMillionEvents() != Double.MAX_VALUE) {
+            long events = engines.values().stream().mapToLong(engine -> engine.getMetrics().events()).sum();
+            double growthMb = (double) (usedHeap() - heapBefore) / MB * 1_000_000 / Math.max(events, 1);
+
+            // too few events make the growth per million events meaningless
+            report.put("debezium.budget.heapGrowthMbPerMillionEvents", events < MIN_EVENTS_PER_MILLION ? "n/a" : String.format("%.1f", growthMb));
+            if (events >= MIN_EVENTS_PER_MILLION && growthMb > budget.maxHeapGrowthMbPerMillionEvents()) {
+                violations.add(String.format("heap growth %.1fMB per million events > %.1fMB", growthMb, budget.maxHeapGrowthMbPerMillionEvents()));
+            }
+        }
+
+        if (!report.isEmpty()) {
+            reporter.accept(report);
+        }
+
+        if (!violations.isEmpty()) {
+            throw new AssertionFailedError("Performance budget exceeded: " + String.join(", ", violations));
+        }
+    }
+
+    private void verify(JunitDebeziumEngineMetrics metrics, String prefix, Map<String, String> report, List<String> violations) {
+        if (budget.minSnapshotRowsPerSecond() > 0) {
+            Duration taskStarted = metrics.timeTo(EnginePhase.TASK_STARTED).orElse(Duration.ZERO);
+            Optional<Duration> snapshot = metrics.timeTo(EnginePhase.SNAPSHOT_COMPLETED)
+                    .map(completed -> completed.minus(taskStarted));
+            long rows = metrics.topics()
+                    .stream()
+                    .mapToLong(topic -> metrics.events(topic, Operation.READ))
+                    .sum();
+            double rowsPerSecond = snapshot
+                    .map(duration -> rows * 1000.0 / Math.max(duration.toMillis(), 1))
+                    .orElse(0.0);
+
+            report.put("debezium.budget." + prefix + "snapshotRowsPerSecond", String.format("%.1f", rowsPerSecond));
+            if (snapshot.isEmpty()) {
+                violations.add(prefix + "snapshot not completed");
+            }
+            else if (rowsPerSecond < budget.minSnapshotRowsPerSecond()) {
+                violations.add(prefix + String.format("snapshot rows per second %.1f < %.1f", rowsPerSecond, budget.minSnapshotRowsPerSecond()));
+            }
+        }
+
+        if (budget.maxP99LatencyMillis() != Long.MAX_VALUE) {
+            long p99 = metrics.lag().percentile(99);
+
+            report.put("debezium.budget." + prefix + "p99LatencyMillis", String.valueOf(p99));
+            if (p99 > budget.maxP99LatencyMillis()) {
+                violations.add(prefix + "p99 latency " + p99 + "ms > " + budget.maxP99LatencyMillis() + "ms");
+            }
+        }
+
+        if (budget.maxStartupMillis() != Long.MAX_VALUE) {
+            Optional<Duration> startup = metrics.timeTo(budget.startupPhase());
+
+            report.put("debezium.budget." + prefix + "startupMillis", startup.map(duration -> String.valueOf(duration.toMillis())).orElse("n/a"));
+            if (startup.isEmpty()) {
+                violations.add(prefix + budget.startupPhase() + " not reached");
+            }
+            else if (startup.get().toMillis() > budget.maxStartupMillis()) {
+                violations.add(prefix + "startup " + startup.get().toMillis() + "ms > " + budget.maxStartupMillis() + "ms");
+            }
+        }
+    }
+
+    /**
+     * Verifies the limits applying to a closed engine.
+     *
+     * @param heapBefore used heap after a GC before the engine was created
+     * @throws AssertionFailedError listing all the exceeded limits
+     */
+    static void verifyClosed(PerformanceBudget budget, String name, JunitDebeziumEngine engine, long heapBefore) {
+        List<String> violations = new ArrayList<>();
+
+        List<String> leaked = engine.getMetrics().footprint().leakedThreads();
+        if (leaked.size() > budget.maxLeakedThreads()) {
+            violations.add(leaked.size() + " threads leaked " + leaked + " > " + budget.maxLeakedThreads());
+        }
+
+        if (budget.maxRetainedHeapMb() != Long.MAX_VALUE) {
+            long retainedMb = (gcUsedHeap() - heapBefore) / MB;
+            if (retainedMb > budget.maxRetainedHeapMb()) {
+                violations.add("retained heap " + retainedMb + "MB > " + budget.maxRetainedHeapMb() + "MB");
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            throw new AssertionFailedError("Performance budget of the closed engine " + name + " exceeded: " + String.join(", ", violations));
+        }
+    }
+
+    /**
+     * @return the used heap after a GC when the budget limits the retained heap, 0 otherwise
+     */
+    static long heapBeforeEngine(PerformanceBudget budget) {
+        return budget == null || budget.maxRetainedHeapMb() == Long.MAX_VALUE ? 0 : gcUsedHeap();
+    }
+
+    private long usedHeap() {
+        if (budget.maxHeapGrowthMb() == Long.MAX_VALUE && budget.maxHeapGrowthMbPerMillionEvents() == Double.MAX_VALUE) {
+            return 0;
+        }
+
+        return gcUsedHeap();
+    }
+
+    private static long gcUsedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        memory.gc();
+
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
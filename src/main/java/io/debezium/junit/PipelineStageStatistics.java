@@ -0,0 +1,83 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time and allocations spent by a stage of the engine record pipeline: a {@link Transform} or the serialization to
+ * the {@link OutputFormat}. Allocations are those of the engine thread, measured with the JVM thread allocation
+ * counters, and not available on virtual threads.
+ */
+public class PipelineStageStatistics {
+    private final String name;
+    private final LongAdder records = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder outputBytes = new LongAdder();
+
+    PipelineStageStatistics(String name) {
+        this.name = name;
+    }
+
+    void record(long nanos, long allocatedBytes) {
+        records.increment();
+        this.nanos.add(nanos);
+        if (allocatedBytes > 0) {
+            this.allocatedBytes.add(allocatedBytes);
+        }
+    }
+
+    void output(long bytes) {
+        outputBytes.add(bytes);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long records() {
+        return records.sum();
+    }
+
+    public long nanos() {
+        return nanos.sum();
+    }
+
+    public long allocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    /**
+     * @return bytes produced by the serialization stage, 0 for transforms
+     */
+    public long outputBytes() {
+        return outputBytes.sum();
+    }
+
+    public double nanosPerRecord() {
+        long count = records();
+
+        return count == 0 ? 0 : (double) nanos() / count;
+    }
+
+    public double allocatedBytesPerRecord() {
+        long count = records();
+
+        return count == 0 ? 0 : (double) allocatedBytes() / count;
+    }
+
+    @Override
+    public String toString() {
+        return "PipelineStageStatistics{" +
+                "name=" + name +
+                ", records=" + records() +
+                ", nanosPerRecord=" + String.format("%.1f", nanosPerRecord()) +
+                ", allocatedBytesPerRecord=" + String.format("%.1f", allocatedBytesPerRecord()) +
+                '}';
+    }
+}
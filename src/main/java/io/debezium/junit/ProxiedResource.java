@@ -0,0 +1,99 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decorates a resource with a {@link NetworkProxy}: the host and port the resource returns are rewritten to those of
+ * the proxy, so the connector reaches the resource through the shaped link, e.g.
+ * <pre>{@code
+ * public class RemotePostgresResource extends ProxiedResource {
+ *     public RemotePostgresResource() {
+ *         super(new PostgresResource(), NetworkConditions.NONE.withLatency(Duration.ofMillis(40)).withBandwidth(10_000_000));
+ *     }
+ * }
+ * }</pre>
+ * The proxy is injected in the tests to change the conditions while the engine runs.
+ * <p>
+ * The decorated resource is shared and reference counted like a declared one: a test declaring it directly and a test
+ * reaching it through the proxy use the same instance, which is seeded with its fixtures when started.
+ */
+public abstract class ProxiedResource implements DebeziumTestResourceLifecycleManager {
+    private static final String HOSTNAME = "database.hostname";
+    private static final String PORT = "database.port";
+
+    private final DebeziumTestResourceLifecycleManager delegate;
+    private final NetworkConditions conditions;
+    private final String hostKey;
+    private final String portKey;
+    private NetworkProxy proxy;
+
+    protected ProxiedResource(DebeziumTestResourceLifecycleManager delegate, NetworkConditions conditions) {
+        this(delegate, conditions, HOSTNAME, PORT);
+    }
+
+    /**
+     * @param hostKey configuration property of the host returned by the resource
+     * @param portKey configuration property of the port returned by the resource
+     */
+    protected ProxiedResource(DebeziumTestResourceLifecycleManager delegate, NetworkConditions conditions, String hostKey, String portKey) {
+        this.delegate = delegate;
+        this.conditions = conditions;
+        this.hostKey = hostKey;
+        this.portKey = portKey;
+    }
+
+    /**
+     * @return the proxy, {@code null} until the resource is started
+     */
+    public NetworkProxy proxy() {
+        return proxy;
+    }
+
+    DebeziumTestResourceLifecycleManager delegate() {
+        return delegate;
+    }
+
+    @Override
+    public Map<String, String> start() {
+        Map<String, String> configuration = new HashMap<>(TestResources.acquire(delegate));
+        String host = configuration.get(hostKey);
+        String port = configuration.get(portKey);
+        if (host == null || port == null) {
+            TestResources.release(delegate);
+            throw new IllegalStateException(delegate.getClass().getName() + " returned no " + hostKey + " and " + portKey + " to proxy");
+        }
+
+        try {
+            proxy = new NetworkProxy(host, Integer.parseInt(port), conditions);
+        }
+        catch (RuntimeException e) {
+            TestResources.release(delegate);
+            throw e;
+        }
+        configuration.put(hostKey, proxy.host());
+        configuration.put(portKey, String.valueOf(proxy.port()));
+
+        return configuration;
+    }
+
+    @Override
+    public void stop() {
+        if (proxy != null) {
+            proxy.close();
+        }
+        TestResources.release(delegate);
+    }
+
+    @Override
+    public List<Class<? extends DebeziumTestResourceLifecycleManager>> dependsOn() {
+        return delegate.dependsOn();
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.connect.source.SourceRecord;
+import org.apache.kafka.connect.storage.Converter;
+import org.apache.kafka.connect.transforms.Transformation;
+import org.apache.kafka.connect.transforms.predicates.Predicate;
+
+import io.debezium.DebeziumException;
+
+/**
+ * Transforms and serialization applied by the test engine to every captured record, each stage timed on the engine
+ * thread. Transforms returning {@code null} filter the record out.
+ * <p>
+ * Transformations, predicates and converters are not thread-safe, and the async engine processes records on several
+ * threads: each record goes through a chain of instances no other thread is using, chains being created on demand
+ * and reused afterwards. The statistics of a stage are shared by all the chains.
+ */
+class RecordPipeline implements AutoCloseable {
+    static final RecordPipeline NONE = new RecordPipeline(List.of(), List.of(), OutputFormat.CONNECT, Map.of());
+    static final String CONVERTER_PREFIX = "converter.";
+    private static final String SERIALIZATION = "serialization";
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final List<Transform> transforms;
+    private final List<TransformPredicate> predicates;
+    private final OutputFormat format;
+    private final Map<String, String> converterConfiguration;
+    private final List<PipelineStageStatistics> statistics = new ArrayList<>();
+    private final PipelineStageStatistics serialization;
+    private final Queue<Chain> idle = new ConcurrentLinkedQueue<>();
+    private final Queue<Chain> chains = new ConcurrentLinkedQueue<>();
+
+    private RecordPipeline(List<Transform> transforms, List<TransformPredicate> predicates, OutputFormat format,
+                           Map<String, String> converterConfiguration) {
+        this.transforms = transforms;
+        this.predicates = predicates;
+        this.format = format;
+        this.converterConfiguration = converterConfiguration;
+        transforms.forEach(transform -> statistics.add(new PipelineStageStatistics(transform.name())));
+        this.serialization = format.converterClass() == null ? null : new PipelineStageStatistics(SERIALIZATION);
+        if (serialization != null) {
+            statistics.add(serialization);
+        }
+    }
+
+    /**
+     * @param configuration engine configuration, the {@code converter.*} properties configure the output format
+     */
+    static RecordPipeline of(List<Transform> transforms, List<TransformPredicate> predicates, OutputFormat format,
+                             Map<String, String> configuration) {
+        if (transforms.isEmpty() && format == OutputFormat.CONNECT) {
+            return NONE;
+        }
+
+        Map<String, String> converterConfiguration = configuration.entrySet()
+                .stream()
+                .filter(entry -> entry.getKey().startsWith(CONVERTER_PREFIX))
+                .collect(Collectors.toMap(entry -> entry.getKey().substring(CONVERTER_PREFIX.length()), Map.Entry::getValue));
+        RecordPipeline pipeline = new RecordPipeline(transforms, predicates, format, converterConfiguration);
+
+        // fails on an invalid declaration before the engine starts
+        pipeline.idle.add(pipeline.newChain());
+
+        return pipeline;
+    }
+
+    private Chain newChain() {
+        Map<String, Predicate<SourceRecord>> predicatesByName = new HashMap<>();
+        for (TransformPredicate predicate : predicates) {
+            Predicate<SourceRecord> instance = newInstance(predicate.type());
+            instance.configure(toMap(predicate.configuration()));
+            predicatesByName.put(predicate.name(), instance);
+        }
+
+        List<Stage> stages = new ArrayList<>();
+        for (int i = 0; i < transforms.size(); i++) {
+            Transform transform = transforms.get(i);
+            Predicate<SourceRecord> predicate = null;
+            if (!transform.predicate().isEmpty()) {
+                predicate = predicatesByName.get(transform.predicate());
+                if (predicate == null) {
+                    throw new DebeziumException("Transform " + transform.name() + " refers to the undeclared predicate " + transform.predicate());
+                }
+            }
+
+            Transformation<SourceRecord> instance = newInstance(transform.type());
+            instance.configure(toMap(transform.configuration()));
+            stages.add(new Stage(instance, predicate, transform.negate(), statistics.get(i)));
+        }
+
+        Converter keyConverter = null;
+        Converter valueConverter = null;
+        if (format.converterClass() != null) {
+            keyConverter = converter(format, converterConfiguration, true);
+            valueConverter = converter(format, converterConfiguration, false);
+        }
+
+        Chain chain = new Chain(stages, keyConverter, valueConverter, List.copyOf(predicatesByName.values()));
+        chains.add(chain);
+
+        return chain;
+    }
+
+    private static Converter converter(OutputFormat format, Map<String, String> configuration, boolean isKey) {
+        try {
+            Converter converter = (Converter) Class.forName(format.converterClass()).getDeclaredConstructor().newInstance();
+            converter.configure(configuration, isKey);
+
+            return converter;
+        }
+        catch (ClassNotFoundException e) {
+            throw new DebeziumException(format + " output format requires " + format.converterClass() + " on the classpath", e);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new DebeziumException("Unable to create the " + format + " converter", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T newInstance(Class<?> type) {
+        try {
+            return (T) type.getDeclaredConstructor().newInstance();
+        }
+        catch (ReflectiveOperationException e) {
+            throw new DebeziumException("Unable to create " + type.getName(), e);
+        }
+    }
+
+    private static Map<String, String> toMap(DebeziumConfiguration[] configuration) {
+        return Arrays.stream(configuration)
+                .collect(Collectors.toMap(DebeziumConfiguration::name, DebeziumConfiguration::value, (v1, v2) -> v2));
+    }
+
+    boolean isEmpty() {
+        return this == NONE;
+    }
+
+    List<PipelineStageStatistics> statistics() {
+        return statistics;
+    }
+
+    /**
+     * @return the transformed record, {@code null} when filtered out
+     */
+    SourceRecord apply(SourceRecord record) {
+        Chain chain = idle.poll();
+        if (chain == null) {
+            chain = newChain();
+        }
+
+        try {
+            return apply(chain, record);
+        }
+        finally {
+            idle.add(chain);
+        }
+    }
+
+    private SourceRecord apply(Chain chain, SourceRecord record) {
+        SourceRecord current = record;
+
+        for (Stage stage : chain.stages()) {
+            long allocated = THREADS.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+
+            if (stage.predicate() == null || stage.predicate().test(current) != stage.negate()) {
+                current = stage.transformation().apply(current);
+            }
+
+            stage.statistics().record(System.nanoTime() - start, allocatedSince(allocated));
+            if (current == null) {
+                return null;
+            }
+        }
+
+        if (chain.valueConverter() != null) {
+            long allocated = THREADS.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+
+            byte[] key = chain.keyConverter().fromConnectData(current.topic(), current.keySchema(), current.key());
+            byte[] value = chain.valueConverter().fromConnectData(current.topic(), current.valueSchema(), current.value());
+
+            serialization.record(System.nanoTime() - start, allocatedSince(allocated));
+            serialization.output((key == null ? 0 : key.length) + (value == null ? 0 : value.length));
+        }
+
+        return current;
+    }
+
+    private static long allocatedSince(long allocated) {
+        return allocated < 0 ? -1 : THREADS.getCurrentThreadAllocatedBytes() - allocated;
+    }
+
+    @Override
+    public void close() {
+        idle.clear();
+        for (Chain chain = chains.poll(); chain != null; chain = chains.poll()) {
+            chain.stages().forEach(stage -> stage.transformation().close());
+            chain.predicates().forEach(Predicate::close);
+            if (chain.valueConverter() instanceof AutoCloseable closeable) {
+                close(closeable);
+                close((AutoCloseable) chain.keyConverter());
+            }
+        }
+    }
+
+    private static void close(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        }
+        catch (Exception e) {
+            throw new DebeziumException(e);
+        }
+    }
+
+    private record Stage(Transformation<SourceRecord> transformation, Predicate<SourceRecord> predicate, boolean negate,
+                         PipelineStageStatistics statistics) {
+    }
+
+    private record Chain(List<Stage> stages, Converter keyConverter, Converter valueConverter, List<Predicate<SourceRecord>> predicates) {
+    }
+}
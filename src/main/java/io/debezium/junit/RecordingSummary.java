@@ -0,0 +1,53 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Allocations and hot methods of the connector threads, and GC pauses of the JVM, over a {@link FlightRecording}.
+ * Allocations are the JFR sampled estimate.
+ */
+record RecordingSummary(Path file,
+                        Duration duration,
+                        long allocatedBytes,
+                        long gcCount,
+                        Duration gcPauses,
+                        Duration longestGcPause,
+                        List<Map.Entry<String, Long>> hotMethods) {
+
+    double allocationRate() {
+        return allocatedBytes * 1000.0 / Math.max(duration.toMillis(), 1);
+    }
+
+    /**
+     * @param events change events consumed by the engines during the recording, used for the allocations per event
+     */
+    Map<String, String> reportEntries(long events) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        String prefix = "debezium.profile.";
+
+        entries.put(prefix + "file", file.toString());
+        entries.put(prefix + "allocatedBytes", String.valueOf(allocatedBytes));
+        entries.put(prefix + "allocationRate", String.format("%.1f MB/s", allocationRate() / (1024 * 1024)));
+        if (events > 0) {
+            entries.put(prefix + "allocatedPerEvent", String.valueOf(allocatedBytes / events));
+        }
+        entries.put(prefix + "gc.count", String.valueOf(gcCount));
+        entries.put(prefix + "gc.pauses", String.valueOf(gcPauses.toMillis()));
+        entries.put(prefix + "gc.longestPause", String.valueOf(longestGcPause.toMillis()));
+        for (int i = 0; i < hotMethods.size(); i++) {
+            entries.put(prefix + "hotMethod." + (i + 1), hotMethods.get(i).getKey() + " (" + hotMethods.get(i).getValue() + " samples)");
+        }
+
+        return entries;
+    }
+}
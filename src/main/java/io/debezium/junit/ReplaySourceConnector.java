@@ -0,0 +1,74 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.connect.connector.Task;
+import org.apache.kafka.connect.source.SourceConnector;
+
+/**
+ * Feeds back the change events recorded with {@link DebeziumIntegrationTest#recordTo()}, without the original source.
+ */
+public class ReplaySourceConnector extends SourceConnector {
+    public static final String FILE = "replay.file";
+    public static final String TIMING = "replay.timing";
+    public static final String BATCH_SIZE = "replay.batch.size";
+
+    /**
+     * Events are emitted as fast as the engine consumes them.
+     */
+    public static final String FULL_SPEED = "full_speed";
+
+    /**
+     * Events are emitted with the same spacing they were recorded with.
+     */
+    public static final String ORIGINAL = "original";
+
+    static final ConfigDef CONFIG_DEF = new ConfigDef()
+            .define(FILE, ConfigDef.Type.STRING, ConfigDef.NO_DEFAULT_VALUE, ConfigDef.Importance.HIGH,
+                    "Change event log to replay")
+            .define(TIMING, ConfigDef.Type.STRING, FULL_SPEED, ConfigDef.ValidString.in(FULL_SPEED, ORIGINAL),
+                    ConfigDef.Importance.MEDIUM, "Replay pace, full_speed or original")
+            .define(BATCH_SIZE, ConfigDef.Type.INT, 1_024, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW,
+                    "Maximum number of records returned by a single poll");
+
+    private Map<String, String> configuration;
+
+    @Override
+    public void start(Map<String, String> props) {
+        this.configuration = props;
+    }
+
+    @Override
+    public Class<? extends Task> taskClass() {
+        return ReplaySourceTask.class;
+    }
+
+    @Override
+    public List<Map<String, String>> taskConfigs(int maxTasks) {
+        return Collections.singletonList(configuration);
+    }
+
+    @Override
+    public void stop() {
+        // nothing to release
+    }
+
+    @Override
+    public ConfigDef config() {
+        return CONFIG_DEF;
+    }
+
+    @Override
+    public String version() {
+        return "1.0";
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.apache.kafka.connect.source.SourceTask;
+
+public class ReplaySourceTask extends SourceTask {
+    private static final String POSITION = "position";
+
+    private final JsonConverter keyConverter = ChangeEventLog.converter(true, true);
+    private final JsonConverter valueConverter = ChangeEventLog.converter(false, true);
+
+    private ChangeEventLog log;
+    private Map<String, String> sourcePartition;
+    private boolean originalTiming;
+    private int batchSize;
+    private long position;
+    private ChangeEventLog.Entry pending;
+    private long firstCaptureTime = -1;
+    private long replayStartNanos;
+    private volatile boolean running;
+
+    @Override
+    public String version() {
+        return "1.0";
+    }
+
+    @Override
+    public void start(Map<String, String> props) {
+        AbstractConfig config = new AbstractConfig(ReplaySourceConnector.CONFIG_DEF, props);
+        String file = config.getString(ReplaySourceConnector.FILE);
+
+        log = new ChangeEventLog(Path.of(file));
+        sourcePartition = Map.of("replay", file);
+        originalTiming = ReplaySourceConnector.ORIGINAL.equals(config.getString(ReplaySourceConnector.TIMING));
+        batchSize = config.getInt(ReplaySourceConnector.BATCH_SIZE);
+
+        Map<String, Object> offset = context.offsetStorageReader().offset(sourcePartition);
+        long committed = offset == null ? 0 : ((Number) offset.get(POSITION)).longValue();
+        while (position < committed && log.next() != null) {
+            position++;
+        }
+
+        running = true;
+    }
+
+    @Override
+    public List<SourceRecord> poll() throws InterruptedException {
+        List<SourceRecord> records = new ArrayList<>();
+
+        while (running && records.size() < batchSize) {
+            ChangeEventLog.Entry entry = pending != null ? pending : log.next();
+            pending = null;
+
+            if (entry == null) {
+                if (records.isEmpty()) {
+                    TimeUnit.MILLISECONDS.sleep(100);
+                }
+                break;
+            }
+
+            if (originalTiming && !isDue(entry)) {
+                pending = entry;
+                if (records.isEmpty()) {
+                    TimeUnit.MILLISECONDS.sleep(1);
+                }
+                break;
+            }
+
+            records.add(toRecord(entry));
+        }
+
+        return records.isEmpty() ? null : records;
+    }
+
+    private boolean isDue(ChangeEventLog.Entry entry) {
+        if (firstCaptureTime < 0) {
+            firstCaptureTime = entry.captureTime();
+            replayStartNanos = System.nanoTime();
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - replayStartNanos);
+
+        return entry.captureTime() - firstCaptureTime <= elapsedMillis;
+    }
+
+    private SourceRecord toRecord(ChangeEventLog.Entry entry) {
+        SchemaAndValue key = entry.key() == null ? SchemaAndValue.NULL : keyConverter.toConnectData(entry.topic(), entry.key());
+        SchemaAndValue value = entry.value() == null ? SchemaAndValue.NULL : valueConverter.toConnectData(entry.topic(), entry.value());
+
+        position++;
+
+        return new SourceRecord(sourcePartition, Map.of(POSITION, position), entry.topic(), null,
+                key.schema(), key.value(), value.schema(), value.value(), entry.timestamp());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        if (log != null) {
+            log.close();
+        }
+        keyConverter.close();
+        valueConverter.close();
+    }
+}
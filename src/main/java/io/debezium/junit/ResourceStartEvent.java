@@ -0,0 +1,23 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.debezium.junit.ResourceStart")
+@Label("Resource Start")
+@Description("Start of a test resource, fixtures seeding included")
+@Category({ "Debezium", "Testing" })
+class ResourceStartEvent extends Event {
+
+    @Label("Resource")
+    String resource;
+}
@@ -0,0 +1,25 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.List;
+
+/**
+ * Resource seeded with fixtures, loaded in bulk once it is started and before the engine starts. They are loaded
+ * concurrently, the time taken is published as report entries.
+ */
+public interface SeedableResource extends DebeziumTestResourceLifecycleManager {
+
+    default List<Fixture> fixtures() {
+        return List.of();
+    }
+
+    /**
+     * @return the number of rows loaded
+     */
+    long load(Fixture fixture) throws Exception;
+}
@@ -0,0 +1,30 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+/**
+ * When the resources and the engine of a test class are started.
+ */
+public enum Startup {
+    /**
+     * Before the tests of the class.
+     */
+    EAGER,
+
+    /**
+     * On the first test resolving the engine, its metrics, executor or proxy. A class whose tests are all disabled,
+     * or don't ask for the engine, starts nothing.
+     */
+    LAZY,
+
+    /**
+     * The {@value #DEFAULT_STARTUP} configuration parameter, {@link #EAGER} when not set.
+     */
+    DEFAULT;
+
+    public static final String DEFAULT_STARTUP = "debezium.startup";
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Setup time of every test class of the suite, the slowest ones are logged when the suite ends.
+ */
+class StartupSummary implements CloseableResource {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupSummary.class);
+    private static final int SLOWEST = 10;
+
+    private final Queue<Map.Entry<String, Duration>> setups = new ConcurrentLinkedQueue<>();
+
+    void add(String testClass, Duration setup) {
+        setups.add(Map.entry(testClass, setup));
+    }
+
+    @Override
+    public void close() {
+        if (setups.isEmpty()) {
+            return;
+        }
+
+        Duration total = setups.stream()
+                .map(Map.Entry::getValue)
+                .reduce(Duration.ZERO, Duration::plus);
+        String slowest = setups.stream()
+                .sorted(Map.Entry.<String, Duration> comparingByValue(Comparator.reverseOrder()))
+                .limit(SLOWEST)
+                .map(setup -> String.format("%n%10d ms  %s", setup.getValue().toMillis(), setup.getKey()))
+                .collect(Collectors.joining());
+
+        LOGGER.info("Debezium test classes setup took {} ms for {} classes, slowest:{}", total.toMillis(), setups.size(), slowest);
+    }
+}
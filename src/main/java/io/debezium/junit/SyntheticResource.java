@@ -0,0 +1,30 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.Map;
+
+/**
+ * Resource for {@link SyntheticSourceConnector}: nothing to start, it only provides the default load shape, which can
+ * be overridden with {@link DebeziumConfiguration}.
+ */
+public class SyntheticResource implements DebeziumTestResourceLifecycleManager {
+
+    @Override
+    public Map<String, String> start() {
+        return Map.of(
+                SyntheticSourceConnector.RATE_PER_SECOND, "1000",
+                SyntheticSourceConnector.KEY_CARDINALITY, "1000",
+                SyntheticSourceConnector.PAYLOAD_SIZE, "128",
+                SyntheticSourceConnector.FIELDS, "4");
+    }
+
+    @Override
+    public void stop() {
+        // nothing to stop
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.connect.connector.Task;
+import org.apache.kafka.connect.source.SourceConnector;
+
+/**
+ * In-JVM source connector emitting Debezium-like change events at a configurable rate, to exercise the engine,
+ * converters and transforms without any container. See {@link SyntheticResource} for the defaults.
+ * <p>
+ * Each of the {@code tasks.max} tasks has its own source partition and key range, rates and counts apply per task.
+ */
+public class SyntheticSourceConnector extends SourceConnector {
+    public static final String RATE_PER_SECOND = "synthetic.rate.per.second";
+    public static final String KEY_CARDINALITY = "synthetic.key.cardinality";
+    public static final String PAYLOAD_SIZE = "synthetic.payload.size";
+    public static final String FIELDS = "synthetic.fields";
+    public static final String BATCH_SIZE = "synthetic.batch.size";
+    public static final String SNAPSHOT_RECORDS = "synthetic.snapshot.records";
+    public static final String MAX_RECORDS = "synthetic.max.records";
+    public static final String TOPIC = "synthetic.topic";
+    static final String TASK = "synthetic.task";
+
+    static final ConfigDef CONFIG_DEF = new ConfigDef()
+            .define(RATE_PER_SECOND, ConfigDef.Type.LONG, 1_000L, ConfigDef.Range.atLeast(0), ConfigDef.Importance.HIGH,
+                    "Change events emitted per second, 0 for as fast as possible")
+            .define(KEY_CARDINALITY, ConfigDef.Type.INT, 1_000, ConfigDef.Range.atLeast(1), ConfigDef.Importance.MEDIUM,
+                    "Number of distinct keys per task, the first event of a key is a read or an insert, the following ones updates")
+            .define(PAYLOAD_SIZE, ConfigDef.Type.INT, 128, ConfigDef.Range.atLeast(0), ConfigDef.Importance.MEDIUM,
+                    "Size in characters of the row payload, split among the fields")
+            .define(FIELDS, ConfigDef.Type.INT, 4, ConfigDef.Range.atLeast(1), ConfigDef.Importance.MEDIUM,
+                    "Number of string fields of the row schema")
+            .define(BATCH_SIZE, ConfigDef.Type.INT, 1_024, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW,
+                    "Maximum number of records returned by a single poll")
+            .define(SNAPSHOT_RECORDS, ConfigDef.Type.LONG, 0L, ConfigDef.Range.atLeast(0), ConfigDef.Importance.MEDIUM,
+                    "Number of read (snapshot) events emitted before streaming, beyond the key cardinality keys are read again")
+            .define(MAX_RECORDS, ConfigDef.Type.LONG, 0L, ConfigDef.Range.atLeast(0), ConfigDef.Importance.LOW,
+                    "Total number of events to emit, 0 for unbounded")
+            .define(TOPIC, ConfigDef.Type.STRING, "", ConfigDef.Importance.LOW,
+                    "Destination topic, defaults to <topic.prefix>.synthetic");
+
+    private Map<String, String> configuration;
+
+    @Override
+    public void start(Map<String, String> props) {
+        this.configuration = props;
+    }
+
+    @Override
+    public Class<? extends Task> taskClass() {
+        return SyntheticSourceTask.class;
+    }
+
+    @Override
+    public List<Map<String, String>> taskConfigs(int maxTasks) {
+        List<Map<String, String>> taskConfigs = new ArrayList<>(maxTasks);
+
+        for (int task = 0; task < maxTasks; task++) {
+            Map<String, String> taskConfig = new HashMap<>(configuration);
+            taskConfig.put(TASK, String.valueOf(task));
+            taskConfigs.add(taskConfig);
+        }
+
+        return taskConfigs;
+    }
+
+    @Override
+    public void stop() {
+        // nothing to release
+    }
+
+    @Override
+    public ConfigDef config() {
+        return CONFIG_DEF;
+    }
+
+    @Override
+    public String version() {
+        return "1.0";
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.apache.kafka.connect.source.SourceTask;
+
+/**
+ * Keys and row values are preallocated once per key, only the envelope and the offset are created per record.
+ */
+public class SyntheticSourceTask extends SourceTask {
+    private static final String POSITION = "position";
+    private static final String TOPIC_PREFIX = "topic.prefix";
+
+    private Map<String, String> sourcePartition;
+
+    private long ratePerSecond;
+    private int batchSize;
+    private long snapshotRecords;
+    private long maxRecords;
+    private String topic;
+
+    private Schema keySchema;
+    private Schema sourceSchema;
+    private Schema envelopeSchema;
+    private Struct[] keys;
+    private Struct[] rows;
+
+    private long position;
+    private long startPosition;
+    private long startNanos;
+    private volatile boolean running;
+
+    @Override
+    public String version() {
+        return "1.0";
+    }
+
+    @Override
+    public void start(Map<String, String> props) {
+        AbstractConfig config = new AbstractConfig(SyntheticSourceConnector.CONFIG_DEF, props);
+
+        ratePerSecond = config.getLong(SyntheticSourceConnector.RATE_PER_SECOND);
+        batchSize = config.getInt(SyntheticSourceConnector.BATCH_SIZE);
+        snapshotRecords = config.getLong(SyntheticSourceConnector.SNAPSHOT_RECORDS);
+        maxRecords = config.getLong(SyntheticSourceConnector.MAX_RECORDS);
+        topic = config.getString(SyntheticSourceConnector.TOPIC).isEmpty()
+                ? props.getOrDefault(TOPIC_PREFIX, "synthetic") + ".synthetic"
+                : config.getString(SyntheticSourceConnector.TOPIC);
+
+        String task = props.getOrDefault(SyntheticSourceConnector.TASK, "0");
+        sourcePartition = Map.of("server", "synthetic", "task", task);
+
+        preallocate(Integer.parseInt(task),
+                config.getInt(SyntheticSourceConnector.KEY_CARDINALITY),
+                config.getInt(SyntheticSourceConnector.FIELDS),
+                config.getInt(SyntheticSourceConnector.PAYLOAD_SIZE));
+
+        Map<String, Object> offset = context.offsetStorageReader().offset(sourcePartition);
+        position = offset == null ? 0 : ((Number) offset.get(POSITION)).longValue();
+        startPosition = position;
+        startNanos = System.nanoTime();
+        running = true;
+    }
+
+    private void preallocate(int task, int cardinality, int fields, int payloadSize) {
+        keySchema = SchemaBuilder.struct().name("synthetic.Key")
+                .field("id", Schema.INT64_SCHEMA)
+                .build();
+
+        SchemaBuilder rowBuilder = SchemaBuilder.struct().name("synthetic.Value").optional()
+                .field("id", Schema.INT64_SCHEMA);
+        for (int i = 0; i < fields; i++) {
+            rowBuilder.field("field" + i, Schema.STRING_SCHEMA);
+        }
+        Schema rowSchema = rowBuilder.build();
+
+        sourceSchema = SchemaBuilder.struct().name("synthetic.Source")
+                .field("connector", Schema.STRING_SCHEMA)
+                .field("name", Schema.STRING_SCHEMA)
+                .field("ts_ms", Schema.INT64_SCHEMA)
+                .field("snapshot", Schema.OPTIONAL_STRING_SCHEMA)
+                .field("table", Schema.STRING_SCHEMA)
+                .build();
+
+        envelopeSchema = SchemaBuilder.struct().name("synthetic.Envelope")
+                .field("before", rowSchema)
+                .field("after", rowSchema)
+                .field("source", sourceSchema)
+                .field("op", Schema.STRING_SCHEMA)
+                .field("ts_ms", Schema.INT64_SCHEMA)
+                .build();
+
+        char[] chars = new char[payloadSize / fields];
+        Arrays.fill(chars, 'x');
+        String payload = new String(chars);
+
+        keys = new Struct[cardinality];
+        rows = new Struct[cardinality];
+        for (int i = 0; i < cardinality; i++) {
+            long id = (long) task * cardinality + i;
+            keys[i] = new Struct(keySchema).put("id", id);
+            rows[i] = new Struct(rowSchema).put("id", id);
+            for (int field = 0; field < fields; field++) {
+                rows[i].put("field" + field, payload);
+            }
+        }
+    }
+
+    @Override
+    public List<SourceRecord> poll() throws InterruptedException {
+        int count = batchSize;
+
+        if (maxRecords > 0) {
+            count = (int) Math.min(count, maxRecords - position);
+            if (count <= 0) {
+                TimeUnit.MILLISECONDS.sleep(100);
+                return null;
+            }
+        }
+
+        if (ratePerSecond > 0) {
+            count = (int) Math.min(count, awaitAllowance());
+        }
+
+        if (!running || count <= 0) {
+            return null;
+        }
+
+        List<SourceRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(nextRecord());
+        }
+
+        return records;
+    }
+
+    /**
+     * @return how many records can be emitted now without exceeding the rate, parking until at least one is due
+     */
+    private long awaitAllowance() throws InterruptedException {
+        while (running) {
+            long allowance = due(System.nanoTime() - startNanos) - (position - startPosition);
+
+            if (allowance > 0) {
+                return allowance;
+            }
+
+            LockSupport.parkNanos(Math.max(TimeUnit.SECONDS.toNanos(1) / ratePerSecond, 10_000));
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * @return how many records are due once the time elapsed, counted per whole second plus the remaining nanoseconds:
+     * the elapsed nanoseconds multiplied by the rate overflow after a few minutes at high rates
+     */
+    private long due(long elapsedNanos) {
+        long second = TimeUnit.SECONDS.toNanos(1);
+
+        return elapsedNanos / second * ratePerSecond + elapsedNanos % second * ratePerSecond / second;
+    }
+
+    private SourceRecord nextRecord() {
+        int index = (int) (position % keys.length);
+        long now = System.currentTimeMillis();
+
+        String snapshot;
+        String op;
+        if (position < snapshotRecords) {
+            snapshot = position == snapshotRecords - 1 ? "last" : (position == 0 ? "first" : "true");
+            op = "r";
+        }
+        else {
+            snapshot = "false";
+            // keys already read by the snapshot are only updated
+            op = position < keys.length ? "c" : "u";
+        }
+
+        Struct source = new Struct(sourceSchema)
+                .put("connector", "synthetic")
+                .put("name", topic)
+                .put("ts_ms", now)
+                .put("snapshot", snapshot)
+                .put("table", "synthetic");
+
+        Struct envelope = new Struct(envelopeSchema)
+                .put("before", "u".equals(op) ? rows[index] : null)
+                .put("after", rows[index])
+                .put("source", source)
+                .put("op", op)
+                .put("ts_ms", now);
+
+        position++;
+
+        return new SourceRecord(sourcePartition, Map.of(POSITION, position), topic, null,
+                keySchema, keys[index], envelopeSchema, envelope, now);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+}
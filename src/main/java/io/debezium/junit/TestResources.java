@@ -0,0 +1,338 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Starts and stops the resources of a test concurrently, honouring {@link DebeziumTestResourceLifecycleManager#dependsOn()}.
+ * <p>
+ * Resources are reference counted per class across the JVM: test classes running in parallel share the instance started
+ * first, which is stopped once no test class uses it anymore.
+ */
+class TestResources {
+    private static final Map<Class<?>, SharedResource> SHARED = new ConcurrentHashMap<>();
+
+    private final List<DebeziumTestResourceLifecycleManager> resources;
+    private final Map<Class<?>, DebeziumTestResourceLifecycleManager> resourcesByClass = new HashMap<>();
+
+    TestResources(List<DebeziumTestResourceLifecycleManager> resources) {
+        this.resources = resources;
+        resources.forEach(resource -> resourcesByClass.put(resource.getClass(), resource));
+        resources.forEach(resource -> checkDependencies(resource, new HashSet<>()));
+    }
+
+    /**
+     * @return the started instances of the resources, which are those of another test when shared
+     */
+    List<DebeziumTestResourceLifecycleManager> resources() {
+        return resources.stream()
+                .map(resource -> shared(resource).instance().orElse(resource))
+                .toList();
+    }
+
+    /**
+     * @return how long the {@code start()} of every resource took, by resource class simple name
+     */
+    Map<String, Duration> startupTimes() {
+        Map<String, Duration> startupTimes = new LinkedHashMap<>();
+        resources.forEach(resource -> startupTimes.put(resource.getClass().getSimpleName(), shared(resource).startupTime()));
+
+        return startupTimes;
+    }
+
+    /**
+     * @return the fixtures loaded by the resources when started
+     */
+    List<FixtureStatistics> seeded() {
+        return resources.stream()
+                .flatMap(resource -> seeded(resource).stream())
+                .toList();
+    }
+
+    /**
+     * Acquires a resource which is not declared by the test, like the one decorated by a {@link ProxiedResource}.
+     *
+     * @return the configuration of the shared instance
+     */
+    static Map<String, String> acquire(DebeziumTestResourceLifecycleManager resource) {
+        return shared(resource).acquire(resource);
+    }
+
+    static void release(DebeziumTestResourceLifecycleManager resource) {
+        shared(resource).release();
+    }
+
+    private static List<FixtureStatistics> seeded(DebeziumTestResourceLifecycleManager resource) {
+        List<FixtureStatistics> seeded = new ArrayList<>(shared(resource).seeded());
+        if (resource instanceof ProxiedResource proxied) {
+            seeded.addAll(seeded(proxied.delegate()));
+        }
+
+        return seeded;
+    }
+
+    /**
+     * @return the configurations returned by the resources, merged in declaration order: on conflicting keys the
+     * last declared resource wins, whatever the order the resources completed their startup
+     */
+    Map<String, String> start() {
+        Map<DebeziumTestResourceLifecycleManager, CompletableFuture<Map<String, String>>> started = new LinkedHashMap<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            resources.forEach(resource -> startAsync(resource, started, executor));
+
+            try {
+                CompletableFuture.allOf(started.values().toArray(CompletableFuture[]::new)).join();
+            }
+            catch (CompletionException e) {
+                CompletableFuture.allOf(started.values().toArray(CompletableFuture[]::new))
+                        .exceptionally(ignore -> null)
+                        .join();
+                stopStarted(started);
+                throw rethrow(e);
+            }
+        }
+
+        Map<String, String> configuration = new HashMap<>();
+        resources.forEach(resource -> configuration.putAll(started.get(resource).join()));
+
+        return configuration;
+    }
+
+    void stop() {
+        Map<DebeziumTestResourceLifecycleManager, CompletableFuture<Void>> stopped = new HashMap<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            resources.forEach(resource -> stopAsync(resource, stopped, executor));
+
+            CompletableFuture.allOf(stopped.values().toArray(CompletableFuture[]::new)).join();
+        }
+        catch (CompletionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    private CompletableFuture<Map<String, String>> startAsync(DebeziumTestResourceLifecycleManager resource,
+                                                            Map<DebeziumTestResourceLifecycleManager, CompletableFuture<Map<String, String>>> started,
+                                                            ExecutorService executor) {
+        CompletableFuture<Map<String, String>> future = started.get(resource);
+        if (future != null) {
+            return future;
+        }
+
+        CompletableFuture<?>[] dependencies = dependencies(resource).stream()
+                .map(dependency -> startAsync(dependency, started, executor))
+                .toArray(CompletableFuture[]::new);
+
+        future = CompletableFuture.allOf(dependencies)
+                .thenApplyAsync(ignore -> shared(resource).acquire(resource), executor);
+        started.put(resource, future);
+
+        return future;
+    }
+
+    private CompletableFuture<Void> stopAsync(DebeziumTestResourceLifecycleManager resource,
+                                              Map<DebeziumTestResourceLifecycleManager, CompletableFuture<Void>> stopped,
+                                              ExecutorService executor) {
+        CompletableFuture<Void> future = stopped.get(resource);
+        if (future != null) {
+            return future;
+        }
+
+        CompletableFuture<?>[] dependents = resources.stream()
+                .filter(other -> dependencies(other).contains(resource))
+                .map(dependent -> stopAsync(dependent, stopped, executor))
+                .toArray(CompletableFuture[]::new);
+
+        // a failing dependent must not prevent its dependencies from being stopped
+        future = CompletableFuture.allOf(dependents)
+                .handle((ignore, error) -> null)
+                .thenRunAsync(() -> shared(resource).release(), executor);
+        stopped.put(resource, future);
+
+        return future;
+    }
+
+    /**
+     * Stops the resources that did start, one at a time in reverse dependency order.
+     */
+    private void stopStarted(Map<DebeziumTestResourceLifecycleManager, CompletableFuture<Map<String, String>>> started) {
+        List<DebeziumTestResourceLifecycleManager> order = dependencyOrder();
+
+        for (int i = order.size() - 1; i >= 0; i--) {
+            DebeziumTestResourceLifecycleManager resource = order.get(i);
+            CompletableFuture<Map<String, String>> future = started.get(resource);
+            if (future != null && future.isDone() && !future.isCompletedExceptionally()) {
+                try {
+                    shared(resource).release();
+                }
+                catch (RuntimeException ignore) {
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the resources, each one after its dependencies
+     */
+    private List<DebeziumTestResourceLifecycleManager> dependencyOrder() {
+        List<DebeziumTestResourceLifecycleManager> order = new ArrayList<>();
+        resources.forEach(resource -> visit(resource, order));
+
+        return order;
+    }
+
+    private void visit(DebeziumTestResourceLifecycleManager resource, List<DebeziumTestResourceLifecycleManager> order) {
+        if (order.contains(resource)) {
+            return;
+        }
+
+        dependencies(resource).forEach(dependency -> visit(dependency, order));
+        order.add(resource);
+    }
+
+    private static SharedResource shared(DebeziumTestResourceLifecycleManager resource) {
+        return SHARED.computeIfAbsent(resource.getClass(), ignore -> new SharedResource());
+    }
+
+    private List<DebeziumTestResourceLifecycleManager> dependencies(DebeziumTestResourceLifecycleManager resource) {
+        List<DebeziumTestResourceLifecycleManager> dependencies = new ArrayList<>();
+
+        for (Class<? extends DebeziumTestResourceLifecycleManager> dependency : resource.dependsOn()) {
+            DebeziumTestResourceLifecycleManager declared = resourcesByClass.get(dependency);
+            if (declared == null) {
+                throw new IllegalStateException(resource.getClass().getName() + " depends on " + dependency.getName()
+                        + " which is not declared as resource of the test");
+            }
+            dependencies.add(declared);
+        }
+
+        return dependencies;
+    }
+
+    private void checkDependencies(DebeziumTestResourceLifecycleManager resource, Set<DebeziumTestResourceLifecycleManager> path) {
+        if (!path.add(resource)) {
+            throw new IllegalStateException("Cyclic dependency between resources involving " + resource.getClass().getName());
+        }
+
+        dependencies(resource).forEach(dependency -> checkDependencies(dependency, path));
+        path.remove(resource);
+    }
+
+    private static RuntimeException rethrow(CompletionException e) {
+        return e.getCause() instanceof RuntimeException cause ? cause : new RuntimeException(e.getCause());
+    }
+
+    /**
+     * Started, and seeded, instance of a resource class and the number of tests using it. The lock is held while
+     * starting and stopping, a test acquiring a resource being started by another one waits for it.
+     */
+    private static class SharedResource {
+        private final Lock lock = new ReentrantLock();
+        private DebeziumTestResourceLifecycleManager instance;
+        private Map<String, String> configuration;
+        private List<FixtureStatistics> seeded = List.of();
+        private Duration startupTime = Duration.ZERO;
+        private int references;
+
+        Map<String, String> acquire(DebeziumTestResourceLifecycleManager resource) {
+            lock.lock();
+            try {
+                if (references == 0) {
+                    ResourceStartEvent event = new ResourceStartEvent();
+                    event.resource = resource.getClass().getName();
+                    event.begin();
+                    long start = System.nanoTime();
+                    configuration = resource.start();
+                    startupTime = Duration.ofNanos(System.nanoTime() - start);
+                    try {
+                        seeded = FixtureSeeder.seed(resource);
+                    }
+                    catch (RuntimeException e) {
+                        resource.stop();
+                        throw e;
+                    }
+                    event.commit();
+                    instance = resource;
+                }
+                references++;
+
+                return configuration;
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        void release() {
+            lock.lock();
+            try {
+                if (references == 0) {
+                    return;
+                }
+
+                references--;
+                if (references == 0) {
+                    DebeziumTestResourceLifecycleManager stopped = instance;
+                    instance = null;
+                    configuration = null;
+                    seeded = List.of();
+                    stopped.stop();
+                }
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        Duration startupTime() {
+            lock.lock();
+            try {
+                return startupTime;
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        List<FixtureStatistics> seeded() {
+            lock.lock();
+            try {
+                return seeded;
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        Optional<DebeziumTestResourceLifecycleManager> instance() {
+            lock.lock();
+            try {
+                return Optional.ofNullable(instance);
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apache.kafka.connect.transforms.Transformation;
+
+/**
+ * Single message transform applied by the test engine, in declaration order, like the {@code transforms} of Kafka Connect.
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Transform {
+    /**
+     * Name of the stage in the pipeline statistics.
+     */
+    String name();
+
+    @SuppressWarnings("rawtypes")
+    Class<? extends Transformation> type();
+
+    DebeziumConfiguration[] configuration() default {};
+
+    /**
+     * Name of the {@link TransformPredicate} the transform is conditioned by.
+     */
+    String predicate() default "";
+
+    boolean negate() default false;
+}
@@ -0,0 +1,29 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apache.kafka.connect.transforms.predicates.Predicate;
+
+/**
+ * Predicate a {@link Transform} refers to by name, like the {@code predicates} of Kafka Connect.
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface TransformPredicate {
+    String name();
+
+    @SuppressWarnings("rawtypes")
+    Class<? extends Predicate> type();
+
+    DebeziumConfiguration[] configuration() default {};
+}
@@ -0,0 +1,45 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.junit.DebeziumConfiguration;
+import io.debezium.junit.DebeziumIntegrationTest;
+import io.debezium.junit.DeliveryOrder;
+import io.debezium.junit.EngineImplementation;
+import io.debezium.junit.EnginePhase;
+import io.debezium.junit.JunitDebeziumEngine;
+import io.debezium.junit.SyntheticResource;
+import io.debezium.junit.SyntheticSourceConnector;
+
+@DebeziumIntegrationTest(value = SyntheticSourceConnector.class, resources = { SyntheticResource.class },
+        configuration = {
+            @DebeziumConfiguration(name = SyntheticSourceConnector.KEY_CARDINALITY, value = "10"),
+            @DebeziumConfiguration(name = SyntheticSourceConnector.SNAPSHOT_RECORDS, value = "100")
+        },
+        awaitPhase = EnginePhase.STREAMING_STARTED,
+        engine = EngineImplementation.ASYNC,
+        processingThreads = 4,
+        deliveryOrder = DeliveryOrder.UNORDERED,
+        tasks = 2)
+public class AsyncEngineTest {
+
+    @Test
+    @DisplayName("should consume the change events of every task through the async engine")
+    void shouldRunAllTasks(JunitDebeziumEngine engine) {
+        assertThat(engine.getConfigurationValue("record.processing.order")).isEqualTo("UNORDERED");
+        assertThat(engine.getChangeEventBuffer().records(engine.topic("synthetic")))
+                .map(record -> ((Struct) record.key()).getInt64("id"))
+                .anyMatch(id -> id < 10)
+                .anyMatch(id -> id >= 10 && id < 20);
+    }
+}
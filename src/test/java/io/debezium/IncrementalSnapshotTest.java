@@ -0,0 +1,82 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.postgresql.PostgresConnector;
+import io.debezium.junit.DebeziumConfiguration;
+import io.debezium.junit.DebeziumIntegrationTest;
+import io.debezium.junit.EnginePhase;
+import io.debezium.junit.Fixture;
+import io.debezium.junit.IncrementalSnapshotProgress;
+import io.debezium.junit.JunitDebeziumEngine;
+
+@DebeziumIntegrationTest(value = PostgresConnector.class, resources = { IncrementalSnapshotTest.CustomersResource.class },
+        configuration = {
+            @DebeziumConfiguration(name = "snapshot.mode", value = "no_data"),
+            @DebeziumConfiguration(name = "signal.enabled.channels", value = "in-process"),
+            @DebeziumConfiguration(name = "signal.data.collection", value = "public.debezium_signal"),
+            @DebeziumConfiguration(name = "notification.enabled.channels", value = "sink"),
+            @DebeziumConfiguration(name = "notification.sink.topic.name", value = "notifications"),
+            @DebeziumConfiguration(name = "incremental.snapshot.chunk.size", value = "100")
+        },
+        bufferCapacity = 2 * IncrementalSnapshotTest.ROWS,
+        awaitPhase = EnginePhase.STREAMING_STARTED)
+public class IncrementalSnapshotTest {
+    static final int ROWS = 1_000;
+
+    @Test
+    @DisplayName("should follow an incremental snapshot chunk by chunk until completed")
+    void shouldFollowIncrementalSnapshot(JunitDebeziumEngine engine) {
+        IncrementalSnapshotProgress progress = engine.incrementalSnapshot()
+                .dataCollection("public.customers")
+                .start()
+                .await(Duration.ofMinutes(1));
+
+        assertThat(progress.isCompleted()).isTrue();
+        assertThat(progress.chunks("public.customers")).isGreaterThanOrEqualTo(ROWS / 100);
+        assertThat(progress.rows("public.customers")).isEqualTo(ROWS);
+        assertThat(progress.rowsScanned("public.customers")).isEqualTo(ROWS);
+        assertThat(progress.duration("public.customers")).isPresent();
+        assertThat(engine.getChangeEventBuffer().records(engine.topic("public.customers"))).hasSize(ROWS);
+    }
+
+    public static class CustomersResource extends PostgresResource {
+
+        @Override
+        public Map<String, String> start() {
+            Map<String, String> configuration = super.start();
+
+            try (Connection connection = connect();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS customers, debezium_signal");
+                statement.execute("CREATE TABLE customers (id integer PRIMARY KEY, name text)");
+                statement.execute("CREATE TABLE debezium_signal (id varchar(42) PRIMARY KEY, type varchar(32) NOT NULL, data varchar(2048))");
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+
+            return configuration;
+        }
+
+        @Override
+        public List<Fixture> fixtures() {
+            return List.of(Fixture.generated("customers", List.of("id", "name"), ROWS, n -> new Object[]{ n, "customer " + n }));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.junit.DebeziumIntegrationTest;
+import io.debezium.junit.DebeziumTestResourceLifecycleManager;
+import io.debezium.junit.JunitDebeziumEngine;
+import io.debezium.junit.Startup;
+import io.debezium.junit.SyntheticSourceConnector;
+
+@DebeziumIntegrationTest(value = SyntheticSourceConnector.class, resources = { LazyStartupTest.CountingResource.class },
+        startup = Startup.LAZY)
+public class LazyStartupTest {
+
+    @Test
+    @DisplayName("should start the resources and the engine on the first resolution only")
+    void shouldStartOnFirstResolution(JunitDebeziumEngine engine) {
+        assertThat(engine.isRunning()).isTrue();
+        assertThat(CountingResource.STARTS).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should reuse the engine started by a previous test")
+    void shouldReuseTheEngine(JunitDebeziumEngine engine) {
+        assertThat(CountingResource.STARTS).hasValue(1);
+    }
+
+    public static class CountingResource implements DebeziumTestResourceLifecycleManager {
+        static final AtomicInteger STARTS = new AtomicInteger();
+
+        @Override
+        public Map<String, String> start() {
+            STARTS.incrementAndGet();
+
+            return Map.of();
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+}
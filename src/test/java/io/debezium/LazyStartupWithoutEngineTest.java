@@ -0,0 +1,59 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.debezium.junit.DebeziumIntegrationTest;
+import io.debezium.junit.DebeziumTestResourceLifecycleManager;
+import io.debezium.junit.Startup;
+import io.debezium.junit.SyntheticSourceConnector;
+
+@DebeziumIntegrationTest(value = SyntheticSourceConnector.class, resources = { LazyStartupWithoutEngineTest.CountingResource.class },
+        startup = Startup.LAZY)
+public class LazyStartupWithoutEngineTest {
+
+    @AfterAll
+    static void nothingStarted() {
+        assertThat(CountingResource.STARTS).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("should not start the resources for a test not asking for the engine")
+    void shouldNotStartWithoutEngine() {
+        assertThat(CountingResource.STARTS).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("should not start the resources for a test resolving other parameters")
+    void shouldNotStartForOtherParameters(TestInfo info) {
+        assertThat(info.getTestMethod()).isPresent();
+    }
+
+    public static class CountingResource implements DebeziumTestResourceLifecycleManager {
+        static final AtomicInteger STARTS = new AtomicInteger();
+
+        @Override
+        public Map<String, String> start() {
+            STARTS.incrementAndGet();
+
+            return Map.of();
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+}
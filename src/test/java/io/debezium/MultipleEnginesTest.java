@@ -0,0 +1,88 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.junit.DebeziumConfiguration;
+import io.debezium.junit.DebeziumIntegrationTest;
+import io.debezium.junit.EngineName;
+import io.debezium.junit.EnginePhase;
+import io.debezium.junit.ExecutorStatistics;
+import io.debezium.junit.ExecutorStrategy;
+import io.debezium.junit.ExpectedChangeEvents;
+import io.debezium.junit.JunitDebeziumEngine;
+import io.debezium.junit.SyntheticResource;
+import io.debezium.junit.SyntheticSourceConnector;
+
+@DebeziumIntegrationTest(value = SyntheticSourceConnector.class, name = "orders", resources = { SyntheticResource.class },
+        configuration = {
+            @DebeziumConfiguration(name = SyntheticSourceConnector.SNAPSHOT_RECORDS, value = "100")
+        },
+        awaitPhase = EnginePhase.STREAMING_STARTED,
+        isolated = true)
+@DebeziumIntegrationTest(value = SyntheticSourceConnector.class, name = "customers", resources = { SyntheticResource.class },
+        configuration = {
+            @DebeziumConfiguration(name = SyntheticSourceConnector.TOPIC, value = "testing.customers"),
+            @DebeziumConfiguration(name = SyntheticSourceConnector.SNAPSHOT_RECORDS, value = "50")
+        },
+        awaitPhase = EnginePhase.STREAMING_STARTED,
+        executor = ExecutorStrategy.VIRTUAL)
+public class MultipleEnginesTest {
+
+    @Test
+    @DisplayName("should inject each engine by name")
+    void shouldInjectEnginesByName(@EngineName("orders") JunitDebeziumEngine orders, @EngineName("customers") JunitDebeziumEngine customers) {
+        assertThat(orders).isNotSameAs(customers);
+        assertThat(orders.getChangeEventBuffer().topics()).containsExactly(orders.topic("synthetic"));
+        assertThat(customers.getChangeEventBuffer().topics()).containsExactly("testing.customers");
+    }
+
+    @Test
+    @DisplayName("should run the engines concurrently")
+    void shouldRunEnginesConcurrently(@EngineName("orders") JunitDebeziumEngine orders, @EngineName("customers") JunitDebeziumEngine customers) {
+        assertThat(orders.getLifecycle().hasReached(EnginePhase.STREAMING_STARTED)).isTrue();
+        assertThat(customers.getLifecycle().hasReached(EnginePhase.STREAMING_STARTED)).isTrue();
+
+        // both keep streaming in the same window, neither one stopped
+        ExpectedChangeEvents ordersEvents = orders.expect().onTopic(orders.topic("synthetic")).toReceive(100);
+        ExpectedChangeEvents customersEvents = customers.expect().onTopic("testing.customers").toReceive(100);
+        ordersEvents.within(Duration.ofSeconds(10));
+        customersEvents.within(Duration.ofSeconds(10));
+
+        assertThat(orders.getLifecycle().hasReached(EnginePhase.CONNECTOR_STOPPED)).isFalse();
+        assertThat(customers.getLifecycle().hasReached(EnginePhase.CONNECTOR_STOPPED)).isFalse();
+        assertThat(orders.getMetrics().events(orders.topic("synthetic"))).isGreaterThanOrEqualTo(200);
+        assertThat(customers.getMetrics().events("testing.customers")).isGreaterThanOrEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("should run each engine on the executor of its strategy")
+    void shouldUseExecutorStrategy(@EngineName("orders") ExecutorStatistics orders, @EngineName("customers") ExecutorStatistics customers) {
+        assertThat(orders.strategy()).isEqualTo(ExecutorStrategy.PLATFORM);
+        assertThat(orders.active()).isEqualTo(1);
+        assertThat(customers.strategy()).isEqualTo(ExecutorStrategy.VIRTUAL);
+        assertThat(customers.active()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should derive the engine name and topic prefix of an isolated engine from the test class")
+    void shouldIsolateEngine(@EngineName("orders") JunitDebeziumEngine orders) {
+        assertThat(orders.getConfigurationValue("name"))
+                .startsWith("MultipleEnginesTest-")
+                .endsWith("-orders")
+                .contains(String.format("%08x", MultipleEnginesTest.class.getName().hashCode()));
+        assertThat(orders.topic("synthetic"))
+                .startsWith("testing_multipleenginestest_")
+                .endsWith("_orders.synthetic");
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.junit.DebeziumIntegrationTest;
+import io.debezium.junit.DebeziumTestResourceLifecycleManager;
+import io.debezium.junit.NetworkConditions;
+import io.debezium.junit.NetworkProxy;
+import io.debezium.junit.ProxiedResource;
+import io.debezium.junit.SyntheticSourceConnector;
+
+@DebeziumIntegrationTest(value = SyntheticSourceConnector.class, resources = { NetworkProxyTest.SlowEchoResource.class })
+public class NetworkProxyTest {
+
+    @Test
+    @DisplayName("should delay and pause the bytes forwarded to the resource")
+    void shouldShapeTheLink(NetworkProxy proxy) throws IOException {
+        try (Socket socket = new Socket(proxy.host(), proxy.port())) {
+            socket.setSoTimeout(2_000);
+
+            long start = System.nanoTime();
+            assertThat(echo(socket, 256 * 1024)).isEqualTo(256 * 1024);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            // 50ms each way, and 256KB at 1MB/s less the 50ms burst of the idle link
+            assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(250));
+
+            proxy.pause();
+            socket.setSoTimeout(300);
+            socket.getOutputStream().write(1);
+            assertThat(readTimesOut(socket.getInputStream())).isTrue();
+
+            proxy.resume();
+            socket.setSoTimeout(2_000);
+            assertThat(socket.getInputStream().read()).isEqualTo(1);
+            assertThat(proxy.upstreamBytes()).isEqualTo(256 * 1024 + 1);
+        }
+    }
+
+    private static int echo(Socket socket, int size) throws IOException {
+        // written concurrently, the socket buffers can't hold the whole echo
+        Thread writer = Thread.ofVirtual().start(() -> {
+            try {
+                socket.getOutputStream().write(new byte[size]);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        int received = 0;
+        byte[] buffer = new byte[8192];
+        while (received < size) {
+            int read = socket.getInputStream().read(buffer);
+            if (read < 0) {
+                break;
+            }
+            received += read;
+        }
+        try {
+            writer.join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return received;
+    }
+
+    private static boolean readTimesOut(InputStream input) throws IOException {
+        try {
+            input.read();
+            return false;
+        }
+        catch (SocketTimeoutException e) {
+            return true;
+        }
+    }
+
+    public static class SlowEchoResource extends ProxiedResource {
+
+        public SlowEchoResource() {
+            super(new EchoResource(), NetworkConditions.NONE.withLatency(Duration.ofMillis(50)).withBandwidth(1024 * 1024));
+        }
+    }
+
+    public static class EchoResource implements DebeziumTestResourceLifecycleManager {
+        private ServerSocket server;
+
+        @Override
+        public Map<String, String> start() {
+            try {
+                server = new ServerSocket(0);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            Thread.ofVirtual().start(() -> {
+                while (!server.isClosed()) {
+                    try {
+                        Socket socket = server.accept();
+                        Thread.ofVirtual().start(() -> {
+                            try (socket; InputStream input = socket.getInputStream(); OutputStream output = socket.getOutputStream()) {
+                                input.transferTo(output);
+                            }
+                            catch (IOException e) {
+                                // connection closed
+                            }
+                        });
+                    }
+                    catch (IOException e) {
+                        // server closed
+                    }
+                }
+            });
+
+            return Map.of("database.hostname", "localhost", "database.port", String.valueOf(server.getLocalPort()));
+        }
+
+        @Override
+        public void stop() {
+            try {
+                server.close();
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
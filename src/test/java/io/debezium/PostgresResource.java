@@ -1,17 +1,27 @@
 package io.debezium;
 
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
 import java.time.Duration;
 import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+import org.postgresql.PGConnection;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.utility.DockerImageName;
 
-import io.debezium.junit.DebeziumTestResourceLifecycleManager;
+import io.debezium.junit.Fixture;
+import io.debezium.junit.SeedableResource;
 
-public class PostgresResource implements DebeziumTestResourceLifecycleManager {
+public class PostgresResource implements SeedableResource {
     private static final String POSTGRES_IMAGE = "quay.io/debezium/postgres:15";
 
+    private static final Pattern UNQUOTED_IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_$]*");
+
     private static final DockerImageName POSTGRES_DOCKER_IMAGE_NAME = DockerImageName.parse(POSTGRES_IMAGE)
             .asCompatibleSubstituteFor("postgres");
 
@@ -41,6 +51,31 @@ public class PostgresResource implements DebeziumTestResourceLifecycleManager {
         }
     }
 
+    /**
+     * Streams the fixture with {@code COPY FROM STDIN}, on a connection of its own.
+     */
+    @Override
+    public long load(Fixture fixture) throws Exception {
+        String columns = fixture.columns().stream().map(PostgresResource::identifier).collect(Collectors.joining(", "));
+        String copy = "COPY " + fixture.table() + " (" + columns + ") FROM STDIN WITH (FORMAT csv)";
+
+        try (Connection connection = connect();
+             Reader csv = fixture.openCsv()) {
+            return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copy, csv);
+        }
+    }
+
+    protected Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgresContainer.getJdbcUrl(), postgresContainer.getUsername(), postgresContainer.getPassword());
+    }
+
+    /**
+     * Quotes the column names Postgres would not take as they are.
+     */
+    private static String identifier(String column) {
+        return UNQUOTED_IDENTIFIER.matcher(column).matches() ? column : '"' + column.replace("\"", "\"\"") + '"';
+    }
+
     @Override
     public void stop() {
         try {
@@ -0,0 +1,75 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.postgresql.PostgresConnector;
+import io.debezium.junit.DebeziumIntegrationTest;
+import io.debezium.junit.EnginePhase;
+import io.debezium.junit.Fixture;
+import io.debezium.junit.JunitDebeziumEngine;
+
+@DebeziumIntegrationTest(value = PostgresConnector.class, resources = { SeededPostgresTest.SeededPostgresResource.class },
+        awaitPhase = EnginePhase.SNAPSHOT_COMPLETED)
+public class SeededPostgresTest {
+    private static final int ROWS = 500;
+
+    @Test
+    @DisplayName("should snapshot the rows seeded with COPY FROM STDIN")
+    void shouldSnapshotSeededRows(JunitDebeziumEngine engine) {
+        List<SourceRecord> records = engine.getChangeEventBuffer().records(engine.topic("public.customers"));
+
+        assertThat(records).hasSize(ROWS);
+        assertThat(records)
+                .map(record -> ((Struct) record.value()).getStruct("after"))
+                .allSatisfy(after -> {
+                    int id = after.getInt32("id");
+                    assertThat(after.getString("name")).isEqualTo(id % 3 == 0 ? null : name(id));
+                    assertThat(after.getString("email")).isEmpty();
+                });
+    }
+
+    private static String name(long id) {
+        return "Doe, \"" + id + "\"";
+    }
+
+    public static class SeededPostgresResource extends PostgresResource {
+
+        @Override
+        public Map<String, String> start() {
+            Map<String, String> configuration = super.start();
+
+            try (Connection connection = connect();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS customers");
+                statement.execute("CREATE TABLE customers (id integer PRIMARY KEY, name text, email text NOT NULL)");
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+
+            return configuration;
+        }
+
+        @Override
+        public List<Fixture> fixtures() {
+            return List.of(Fixture.generated("customers", List.of("id", "name", "email"), ROWS,
+                    n -> new Object[]{ n, n % 3 == 0 ? null : name(n), "" }));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.junit.DebeziumConfiguration;
+import io.debezium.junit.KafkaConnectIntegrationTest;
+import io.debezium.junit.KafkaTopicConsumer;
+import io.debezium.junit.SyntheticSourceConnector;
+
+@KafkaConnectIntegrationTest(value = "io.debezium.junit.SyntheticSourceConnector",
+        topics = SyntheticConnectTest.TOPIC,
+        configuration = {
+            @DebeziumConfiguration(name = "topic.prefix", value = "connect"),
+            @DebeziumConfiguration(name = SyntheticSourceConnector.KEY_CARDINALITY, value = "100"),
+            @DebeziumConfiguration(name = SyntheticSourceConnector.SNAPSHOT_RECORDS, value = "100"),
+            @DebeziumConfiguration(name = SyntheticSourceConnector.MAX_RECORDS, value = "1000")
+        })
+public class SyntheticConnectTest {
+    static final String TOPIC = "connect.synthetic";
+    private static final int RECORDS = 1_000;
+
+    @Test
+    @DisplayName("should consume the records of the connector deployed to Kafka Connect")
+    void shouldConsumeDeployedConnector(KafkaTopicConsumer consumer) {
+        consumer.await(TOPIC, RECORDS, Duration.ofMinutes(1));
+
+        assertThat(consumer.records(TOPIC))
+                .hasSizeGreaterThanOrEqualTo(RECORDS)
+                .allSatisfy(record -> assertThat(record.value()).contains("\"op\""));
+        assertThat(consumer.throughput())
+                .filteredOn(partition -> partition.topic().equals(TOPIC))
+                .isNotEmpty()
+                .allSatisfy(partition -> assertThat(partition.records()).isPositive());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import io.debezium.data.Envelope.Operation;
+import io.debezium.junit.DebeziumConfiguration;
+import io.debezium.junit.DebeziumIntegrationTest;
+import io.debezium.junit.EnginePhase;
+import io.debezium.junit.EvictionPolicy;
+import io.debezium.junit.Footprint;
+import io.debezium.junit.JunitDebeziumEngine;
+import io.debezium.junit.JunitDebeziumEngineMetrics;
+import io.debezium.junit.PerformanceBudget;
+import io.debezium.junit.SyntheticResource;
+import io.debezium.junit.SyntheticSourceConnector;
+
+@DebeziumIntegrationTest(value = SyntheticSourceConnector.class, resources = { SyntheticResource.class },
+        configuration = {
+            @DebeziumConfiguration(name = SyntheticSourceConnector.RATE_PER_SECOND, value = "5000"),
+            @DebeziumConfiguration(name = SyntheticSourceConnector.KEY_CARDINALITY, value = "100"),
+            @DebeziumConfiguration(name = SyntheticSourceConnector.SNAPSHOT_RECORDS, value = "100")
+        },
+        evictionPolicy = EvictionPolicy.DROP_NEWEST,
+        awaitPhase = EnginePhase.STREAMING_STARTED)
+@PerformanceBudget(minSnapshotRowsPerSecond = 10, maxP99LatencyMillis = 1_000, maxStartupMillis = 10_000, maxLeakedThreads = 0)
+public class SyntheticConnectorTest {
+
+    @Test
+    @DisplayName("should complete the snapshot before streaming synthetic change events")
+    void shouldSnapshotThenStream(JunitDebeziumEngine engine) {
+        assertThat(engine.getLifecycle().hasReached(EnginePhase.SNAPSHOT_COMPLETED)).isTrue();
+        assertThat(engine.getChangeEventBuffer().topics()).containsExactly("testing.synthetic");
+    }
+
+    @Test
+    @DisplayName("should emit inserts first and then updates of the same keys")
+    void shouldEmitUpdatesOfKnownKeys(JunitDebeziumEngine engine) {
+        engine.awaitPhase(EnginePhase.STREAMING_STARTED, Duration.ofSeconds(5));
+
+        // the buffer keeps the first events of the stream
+        List<SourceRecord> records = engine.getChangeEventBuffer().records("testing.synthetic");
+        Map<Long, List<String>> operationsByKey = new LinkedHashMap<>();
+        records.forEach(record -> operationsByKey
+                .computeIfAbsent(((Struct) record.key()).getInt64("id"), ignore -> new ArrayList<>())
+                .add(((Struct) record.value()).getString("op")));
+
+        assertThat(records).hasSizeGreaterThan(100);
+        assertThat(operationsByKey.keySet()).allMatch(id -> id >= 0 && id < 100);
+        assertThat(operationsByKey.values()).allSatisfy(operations -> {
+            assertThat(operations.get(0)).isIn("r", "c");
+            assertThat(operations.subList(1, operations.size())).allMatch("u"::equals);
+        });
+    }
+
+    @Test
+    @DisplayName("should count events per operation and measure their lag")
+    void shouldCollectMetrics(JunitDebeziumEngineMetrics metrics) {
+        assertThat(metrics.events("testing.synthetic", Operation.READ)).isEqualTo(100);
+        assertThat(metrics.events("testing.synthetic")).isGreaterThan(100);
+        assertThat(metrics.lag().count()).isGreaterThanOrEqualTo(100);
+        assertThat(metrics.timeTo(EnginePhase.CONNECTOR_STARTED)).isPresent();
+        assertThat(metrics.timeTo(EnginePhase.STREAMING_STARTED)).isPresent();
+        Duration snapshot = metrics.timeTo(EnginePhase.SNAPSHOT_COMPLETED).orElseThrow()
+                .minus(metrics.timeTo(EnginePhase.TASK_STARTED).orElseThrow());
+        assertThat(metrics.timeIn(EnginePhase.SNAPSHOT_COMPLETED)).contains(snapshot);
+    }
+
+    @Test
+    @DisplayName("should meet streaming expectations as events arrive")
+    void shouldMeetExpectations(JunitDebeziumEngine engine) {
+        engine.expect()
+                .onTopic("testing.synthetic")
+                .withOperation(Operation.UPDATE)
+                .toReceive(1_000)
+                .within(Duration.ofSeconds(10));
+
+        engine.expect()
+                .onTopic("testing.synthetic")
+                .withKey("id", 3)
+                .toReceiveInOrder(Operation.UPDATE, Operation.UPDATE)
+                .within(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("should fail an expectation on the first mismatching event")
+    void shouldFailFastOnMismatch(JunitDebeziumEngine engine) {
+        assertThatThrownBy(() -> engine.expect()
+                .onTopic("testing.synthetic")
+                .withKey("id", 3)
+                .toReceiveInOrder(Operation.DELETE)
+                .within(Duration.ofSeconds(10)))
+                .isInstanceOf(AssertionFailedError.class)
+                .hasMessageContaining("expected DELETE but received UPDATE");
+    }
+
+    @Test
+    @DisplayName("should sample the footprint at every phase reached")
+    void shouldTrackFootprint(JunitDebeziumEngineMetrics metrics) {
+        Footprint footprint = metrics.footprint();
+
+        assertThat(footprint.atPhase(EnginePhase.STREAMING_STARTED)).isPresent();
+        assertThat(footprint.growth()).containsKeys(EnginePhase.CONNECTOR_STARTED, EnginePhase.STREAMING_STARTED);
+        assertThat(footprint.peak()).hasValueSatisfying(peak -> assertThat(peak.engineThreads()).isPositive());
+    }
+}
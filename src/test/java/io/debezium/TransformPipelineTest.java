@@ -0,0 +1,57 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.kafka.connect.transforms.RegexRouter;
+import org.apache.kafka.connect.transforms.predicates.TopicNameMatches;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.junit.DebeziumConfiguration;
+import io.debezium.junit.DebeziumIntegrationTest;
+import io.debezium.junit.EnginePhase;
+import io.debezium.junit.JunitDebeziumEngine;
+import io.debezium.junit.JunitDebeziumEngineMetrics;
+import io.debezium.junit.OutputFormat;
+import io.debezium.junit.PipelineStageStatistics;
+import io.debezium.junit.SyntheticResource;
+import io.debezium.junit.SyntheticSourceConnector;
+import io.debezium.junit.Transform;
+import io.debezium.junit.TransformPredicate;
+
+@DebeziumIntegrationTest(value = SyntheticSourceConnector.class, resources = { SyntheticResource.class },
+        configuration = {
+            @DebeziumConfiguration(name = SyntheticSourceConnector.SNAPSHOT_RECORDS, value = "100"),
+            @DebeziumConfiguration(name = "converter.schemas.enable", value = "false")
+        },
+        transforms = @Transform(name = "route", type = RegexRouter.class, predicate = "synthetic",
+                configuration = {
+                    @DebeziumConfiguration(name = "regex", value = "testing\\.(.*)"),
+                    @DebeziumConfiguration(name = "replacement", value = "routed.$1")
+                }),
+        predicates = @TransformPredicate(name = "synthetic", type = TopicNameMatches.class,
+                configuration = @DebeziumConfiguration(name = "pattern", value = ".*synthetic")),
+        format = OutputFormat.JSON,
+        awaitPhase = EnginePhase.STREAMING_STARTED)
+public class TransformPipelineTest {
+
+    @Test
+    @DisplayName("should buffer the transformed records and account for every stage")
+    void shouldTransformAndSerialize(JunitDebeziumEngine engine, JunitDebeziumEngineMetrics metrics) {
+        assertThat(engine.getChangeEventBuffer().topics()).containsExactly("routed.synthetic");
+        assertThat(metrics.topics()).containsExactly("testing.synthetic");
+
+        assertThat(metrics.pipeline())
+                .map(PipelineStageStatistics::name)
+                .containsExactly("route", "serialization");
+        assertThat(metrics.pipeline())
+                .allMatch(stage -> stage.records() >= 100 && stage.nanos() > 0);
+        assertThat(metrics.pipeline().get(1).outputBytes()).isPositive();
+    }
+}
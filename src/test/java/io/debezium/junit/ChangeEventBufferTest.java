@@ -0,0 +1,87 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ChangeEventBufferTest {
+
+    @Test
+    @DisplayName("should overwrite the oldest records of a full topic")
+    void shouldDropOldest() {
+        ChangeEventBuffer buffer = new ChangeEventBuffer(3, EvictionPolicy.DROP_OLDEST);
+
+        for (long id = 0; id < 5; id++) {
+            buffer.add(record("orders", id));
+        }
+
+        assertThat(buffer.records("orders")).map(SourceRecord::value).containsExactly(2L, 3L, 4L);
+        assertThat(buffer.size("orders")).isEqualTo(3);
+        assertThat(buffer.evicted("orders")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should keep the first records of a full topic")
+    void shouldDropNewest() {
+        ChangeEventBuffer buffer = new ChangeEventBuffer(3, EvictionPolicy.DROP_NEWEST);
+
+        for (long id = 0; id < 5; id++) {
+            buffer.add(record("orders", id));
+        }
+
+        assertThat(buffer.records("orders")).map(SourceRecord::value).containsExactly(0L, 1L, 2L);
+        assertThat(buffer.evicted("orders")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should bound every topic independently")
+    void shouldBoundPerTopic() {
+        ChangeEventBuffer buffer = new ChangeEventBuffer(2, EvictionPolicy.DROP_OLDEST);
+
+        for (long id = 0; id < 4; id++) {
+            buffer.add(record("orders", id));
+        }
+        buffer.add(record("customers", 10L));
+
+        assertThat(buffer.topics()).containsExactlyInAnyOrder("orders", "customers");
+        assertThat(buffer.records("orders")).map(SourceRecord::value).containsExactly(2L, 3L);
+        assertThat(buffer.records("customers")).map(SourceRecord::value).containsExactly(10L);
+        assertThat(buffer.evicted("customers")).isZero();
+        assertThat(buffer.records("unknown")).isEmpty();
+        assertThat(buffer.size("unknown")).isZero();
+        assertThat(buffer.evicted("unknown")).isZero();
+
+        buffer.clear();
+
+        assertThat(buffer.topics()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should capture nothing with a capacity of zero and reject a negative one")
+    void shouldHandleZeroCapacity() {
+        ChangeEventBuffer buffer = new ChangeEventBuffer(0, EvictionPolicy.DROP_OLDEST);
+
+        buffer.add(record("orders", 1L));
+
+        assertThat(buffer.topics()).isEmpty();
+        assertThat(buffer.records("orders")).isEmpty();
+        assertThatThrownBy(() -> new ChangeEventBuffer(-1, EvictionPolicy.DROP_OLDEST))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SourceRecord record(String topic, long value) {
+        return new SourceRecord(Map.of(), Map.of(), topic, Schema.INT64_SCHEMA, value);
+    }
+}
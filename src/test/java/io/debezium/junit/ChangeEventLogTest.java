@@ -0,0 +1,108 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceConnector;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ChangeEventLogTest {
+    private static final String TOPIC = "testing.synthetic";
+    private static final int RECORDS = 500;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("should replay the recorded change events identically and in order")
+    void shouldReplayRecordedEvents() throws IOException {
+        Path log = directory.resolve("changes.log");
+
+        List<SourceRecord> recorded = consume(SyntheticSourceConnector.class, Map.of(
+                SyntheticSourceConnector.RATE_PER_SECOND, "0",
+                SyntheticSourceConnector.KEY_CARDINALITY, "50",
+                SyntheticSourceConnector.SNAPSHOT_RECORDS, "100",
+                SyntheticSourceConnector.MAX_RECORDS, String.valueOf(RECORDS)), log);
+        List<SourceRecord> replayed = consume(ReplaySourceConnector.class, Map.of(
+                ReplaySourceConnector.FILE, log.toString()), null);
+
+        assertThat(replayed).hasSize(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            SourceRecord expected = recorded.get(i);
+            SourceRecord actual = replayed.get(i);
+
+            assertThat(actual.topic()).isEqualTo(expected.topic());
+            assertThat(actual.keySchema()).isEqualTo(expected.keySchema());
+            assertThat(actual.key()).isEqualTo(expected.key());
+            assertThat(actual.valueSchema()).isEqualTo(expected.valueSchema());
+            assertThat(actual.value()).isEqualTo(expected.value());
+            assertThat(actual.timestamp()).isEqualTo(expected.timestamp());
+        }
+    }
+
+    @Test
+    @DisplayName("should write equal schemas once even when rebuilt for every record")
+    void shouldDeduplicateEqualSchemas() throws IOException {
+        long one = write(directory.resolve("one.log"), 1, false);
+        long sameInstance = write(directory.resolve("same.log"), 2, false);
+        long rebuilt = write(directory.resolve("rebuilt.log"), 100, true);
+
+        assertThat(rebuilt - one).isEqualTo(99 * (sameInstance - one));
+    }
+
+    private static List<SourceRecord> consume(Class<? extends SourceConnector> connector, Map<String, String> configuration, Path recordTo)
+            throws IOException {
+        DefaultJunitDebeziumEngine engine = new DefaultJunitDebeziumEngine(connector, configuration, new NoOpConnectorCallback(),
+                new ChangeEventBuffer(RECORDS, EvictionPolicy.DROP_NEWEST), ConsumptionMode.RECORD);
+        try (engine) {
+            if (recordTo != null) {
+                engine.addListener(new ChangeEventLogWriter(recordTo));
+            }
+            ExpectedChangeEvents events = engine.expect().onTopic(TOPIC).toReceive(RECORDS);
+
+            engine.run();
+            events.within(Duration.ofSeconds(30));
+        }
+
+        return engine.getChangeEventBuffer().records(TOPIC);
+    }
+
+    private static long write(Path file, int records, boolean rebuildSchemas) throws IOException {
+        Schema schema = schema();
+
+        try (ChangeEventLogWriter writer = new ChangeEventLogWriter(file)) {
+            for (int i = 0; i < records; i++) {
+                Schema recordSchema = rebuildSchemas ? schema() : schema;
+                writer.append(new SourceRecord(Map.of(), Map.of(), TOPIC, null, Schema.INT64_SCHEMA, 42L, recordSchema,
+                        new Struct(recordSchema).put("id", 42L).put("name", "synthetic"), 0L));
+            }
+        }
+
+        return Files.size(file);
+    }
+
+    private static Schema schema() {
+        return SchemaBuilder.struct().name("synthetic.Value")
+                .field("id", Schema.INT64_SCHEMA)
+                .field("name", Schema.STRING_SCHEMA)
+                .build();
+    }
+}
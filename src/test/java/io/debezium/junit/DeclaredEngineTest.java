@@ -0,0 +1,56 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.junit.DebeziumTestEngineExtension.DeclaredEngine;
+import io.debezium.junit.DebeziumTestEngineExtension.Running;
+
+public class DeclaredEngineTest {
+
+    @Test
+    @DisplayName("should start the engine once and return it to every resolution")
+    void shouldStartOnce() {
+        AtomicInteger starts = new AtomicInteger();
+        Running started = new Running(null, null, List.of(), Instant.now(), Instant.now());
+        DeclaredEngine engine = new DeclaredEngine("engine", null, () -> {
+            starts.incrementAndGet();
+            return started;
+        });
+
+        assertThat(engine.running()).isEmpty();
+        assertThat(engine.start()).isSameAs(started);
+        assertThat(engine.start()).isSameAs(started);
+        assertThat(engine.running()).contains(started);
+        assertThat(starts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should rethrow a failed start to the following resolutions without retrying")
+    void shouldRememberFailure() {
+        AtomicInteger starts = new AtomicInteger();
+        IllegalStateException failure = new IllegalStateException("unable to start");
+        DeclaredEngine engine = new DeclaredEngine("engine", null, () -> {
+            starts.incrementAndGet();
+            throw failure;
+        });
+
+        assertThatThrownBy(engine::start).isSameAs(failure);
+        assertThatThrownBy(engine::start).isSameAs(failure);
+        assertThat(engine.running()).isEmpty();
+        assertThat(starts).hasValue(1);
+    }
+}
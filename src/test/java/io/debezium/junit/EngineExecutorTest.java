@@ -0,0 +1,47 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class EngineExecutorTest {
+
+    @Test
+    @DisplayName("should reject an engine when all the shared threads are held")
+    void shouldFailFastWhenSharedPoolIsExhausted() throws InterruptedException {
+        EngineExecutor executor = new EngineExecutor(ExecutorStrategy.SHARED, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch stop = new CountDownLatch(1);
+
+        try {
+            ExecutorService executorService = executor.executorService();
+            executorService.submit(() -> {
+                running.countDown();
+                stop.await();
+                return null;
+            });
+            running.await(5, TimeUnit.SECONDS);
+
+            assertThatThrownBy(() -> executorService.submit(() -> {
+            }))
+                    .isInstanceOf(RejectedExecutionException.class)
+                    .hasMessageContaining(EngineExecutor.SHARED_THREADS);
+        }
+        finally {
+            stop.countDown();
+            executor.close();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.DebeziumException;
+
+public class EngineLifecycleTest {
+    private static final Schema SOURCE = SchemaBuilder.struct()
+            .field("snapshot", Schema.OPTIONAL_STRING_SCHEMA)
+            .build();
+    private static final Schema ENVELOPE = SchemaBuilder.struct()
+            .field("op", Schema.STRING_SCHEMA)
+            .field("source", SOURCE)
+            .build();
+    private static final Schema WITHOUT_SOURCE = SchemaBuilder.struct()
+            .field("op", Schema.STRING_SCHEMA)
+            .build();
+    private static final Schema NOTIFICATION = SchemaBuilder.struct()
+            .field("aggregate_type", Schema.STRING_SCHEMA)
+            .field("type", Schema.STRING_SCHEMA)
+            .build();
+
+    @Test
+    @DisplayName("should complete the snapshot on the last snapshot record only")
+    void shouldCompleteSnapshotOnLastRecord() {
+        EngineLifecycle lifecycle = new EngineLifecycle();
+
+        lifecycle.track(event("true"));
+        assertThat(lifecycle.hasReached(EnginePhase.SNAPSHOT_COMPLETED)).isFalse();
+        assertThat(lifecycle.firstEventAt()).isPresent();
+
+        lifecycle.track(event("last"));
+        assertThat(lifecycle.hasReached(EnginePhase.SNAPSHOT_COMPLETED)).isTrue();
+        assertThat(lifecycle.hasReached(EnginePhase.STREAMING_STARTED)).isFalse();
+
+        lifecycle.track(event("false"));
+        assertThat(lifecycle.hasReached(EnginePhase.STREAMING_STARTED)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should start streaming on the first streaming or incremental snapshot record")
+    void shouldStartStreaming() {
+        EngineLifecycle streaming = new EngineLifecycle();
+        streaming.track(event(null));
+
+        EngineLifecycle incremental = new EngineLifecycle();
+        incremental.track(event("incremental"));
+
+        assertThat(streaming.hasReached(EnginePhase.SNAPSHOT_COMPLETED)).isTrue();
+        assertThat(streaming.hasReached(EnginePhase.STREAMING_STARTED)).isTrue();
+        assertThat(incremental.hasReached(EnginePhase.STREAMING_STARTED)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should ignore records without a source block")
+    void shouldIgnoreRecordsWithoutSource() {
+        EngineLifecycle lifecycle = new EngineLifecycle();
+
+        lifecycle.track(new SourceRecord(Map.of(), Map.of(), "topic", WITHOUT_SOURCE, new Struct(WITHOUT_SOURCE).put("op", "c")));
+        lifecycle.track(new SourceRecord(Map.of(), Map.of(), "topic", Schema.STRING_SCHEMA, "raw"));
+
+        assertThat(lifecycle.firstEventAt()).isPresent();
+        assertThat(lifecycle.hasReached(EnginePhase.SNAPSHOT_COMPLETED)).isFalse();
+        assertThat(lifecycle.hasReached(EnginePhase.STREAMING_STARTED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should complete an empty snapshot from the initial snapshot notification")
+    void shouldCompleteSnapshotOnNotification() {
+        EngineLifecycle lifecycle = new EngineLifecycle();
+        lifecycle.followNotifications("notifications");
+
+        lifecycle.track(notification("Incremental Snapshot", "COMPLETED"));
+        lifecycle.track(notification("Initial Snapshot", "STARTED"));
+        assertThat(lifecycle.hasReached(EnginePhase.SNAPSHOT_COMPLETED)).isFalse();
+
+        lifecycle.track(notification("Initial Snapshot", "COMPLETED"));
+        assertThat(lifecycle.hasReached(EnginePhase.SNAPSHOT_COMPLETED)).isTrue();
+        assertThat(lifecycle.hasReached(EnginePhase.STREAMING_STARTED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should not stop streaming when the task stops during the snapshot")
+    void shouldNotStopStreamingDuringSnapshot() {
+        EngineLifecycle lifecycle = new EngineLifecycle();
+
+        lifecycle.track(event("true"));
+        lifecycle.taskStopped();
+        assertThat(lifecycle.hasReached(EnginePhase.STREAMING_STOPPED)).isFalse();
+
+        lifecycle.completed(true, "stopped", null);
+        assertThat(lifecycle.hasReached(EnginePhase.STREAMING_STOPPED)).isFalse();
+        assertThat(lifecycle.hasReached(EnginePhase.CONNECTOR_STOPPED)).isTrue();
+        assertThatThrownBy(() -> lifecycle.await(EnginePhase.STREAMING_STOPPED, Duration.ofSeconds(1)))
+                .isInstanceOf(DebeziumException.class);
+    }
+
+    @Test
+    @DisplayName("should reach the snapshot and streaming phases once every task reached them")
+    void shouldWaitForEveryTask() {
+        EngineLifecycle lifecycle = new EngineLifecycle();
+        lifecycle.expectTasks(2);
+
+        lifecycle.track(event("last", "0"));
+        lifecycle.track(event("false", "0"));
+        lifecycle.track(event("true", "1"));
+        assertThat(lifecycle.hasReached(EnginePhase.SNAPSHOT_COMPLETED)).isFalse();
+        assertThat(lifecycle.hasReached(EnginePhase.STREAMING_STARTED)).isFalse();
+
+        lifecycle.track(event("last", "1"));
+        assertThat(lifecycle.hasReached(EnginePhase.SNAPSHOT_COMPLETED)).isTrue();
+        assertThat(lifecycle.hasReached(EnginePhase.STREAMING_STARTED)).isFalse();
+
+        lifecycle.track(event("false", "1"));
+        assertThat(lifecycle.hasReached(EnginePhase.STREAMING_STARTED)).isTrue();
+    }
+
+    private static SourceRecord event(String snapshot) {
+        return event(snapshot, "0");
+    }
+
+    private static SourceRecord event(String snapshot, String task) {
+        Struct value = new Struct(ENVELOPE)
+                .put("op", "r")
+                .put("source", new Struct(SOURCE).put("snapshot", snapshot));
+
+        return new SourceRecord(Map.of("task", task), Map.of(), "testing.public.orders", ENVELOPE, value);
+    }
+
+    private static SourceRecord notification(String aggregateType, String type) {
+        Struct value = new Struct(NOTIFICATION)
+                .put("aggregate_type", aggregateType)
+                .put("type", type);
+
+        return new SourceRecord(Map.of(), Map.of(), "notifications", NOTIFICATION, value);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class FixtureSeederTest {
+    private static final List<Fixture> FIXTURES = List.of(
+            Fixture.generated("customers", List.of("id"), 10, n -> new Object[]{ n }),
+            Fixture.generated("orders", List.of("id"), 20, n -> new Object[]{ n }));
+
+    @Test
+    @DisplayName("should load every fixture and report its rows")
+    void shouldLoadFixtures() {
+        assertThat(FixtureSeeder.seed(new Loading()))
+                .extracting(FixtureStatistics::table, FixtureStatistics::rows)
+                .containsExactly(tuple("customers", 10L), tuple("orders", 20L));
+    }
+
+    @Test
+    @DisplayName("should seed nothing into a resource that is not seedable")
+    void shouldSkipResourcesNotSeedable() {
+        assertThat(FixtureSeeder.seed(new NotSeedable())).isEmpty();
+    }
+
+    private static class NotSeedable implements DebeziumTestResourceLifecycleManager {
+
+        @Override
+        public Map<String, String> start() {
+            return Map.of();
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+
+    private static class Loading extends NotSeedable implements SeedableResource {
+
+        @Override
+        public List<Fixture> fixtures() {
+            return FIXTURES;
+        }
+
+        @Override
+        public long load(Fixture fixture) throws IOException {
+            try (BufferedReader csv = new BufferedReader(fixture.openCsv())) {
+                return csv.lines().count();
+            }
+        }
+    }
+}
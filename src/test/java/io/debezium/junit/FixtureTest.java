@@ -0,0 +1,106 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FixtureTest {
+
+    @Test
+    @DisplayName("should quote the values containing separators, quotes and line breaks")
+    void shouldQuoteValues() throws IOException {
+        Fixture fixture = Fixture.generated("customers", List.of("id", "name"), 4,
+                n -> new Object[]{ n, List.of("plain", "a,b", "say \"hi\"", "two\nlines").get((int) n) });
+
+        assertThat(read(fixture, 1024)).isEqualTo("""
+                0,plain
+                1,"a,b"
+                2,"say ""hi\"""
+                3,"two
+                lines"
+                """);
+    }
+
+    @Test
+    @DisplayName("should tell null values from empty strings")
+    void shouldFormatEmptyFields() throws IOException {
+        Fixture fixture = Fixture.generated("customers", List.of("id", "name", "email"), 2,
+                n -> n == 0 ? new Object[]{ n, null, "" } : new Object[]{ n, "", null });
+
+        assertThat(read(fixture, 1024)).isEqualTo("0,,\"\"\n1,\"\",\n");
+    }
+
+    @Test
+    @DisplayName("should stream the same rows whatever the size of the reads")
+    void shouldSpanChunkBoundaries() throws IOException {
+        Fixture fixture = Fixture.generated("orders", List.of("id", "note"), 100, n -> new Object[]{ n, "note, " + n });
+        String expected = read(fixture, 8192);
+
+        assertThat(expected.lines()).hasSize(100).first().isEqualTo("0,\"note, 0\"");
+        for (int chunk : new int[]{ 1, 2, 7, 13, 64 }) {
+            assertThat(read(fixture, chunk)).as("read by %d chars", chunk).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("should end the stream once closed, and stream nothing without rows")
+    void shouldEndStream() throws IOException {
+        char[] buffer = new char[16];
+        Reader csv = Fixture.generated("orders", List.of("id"), 10, n -> new Object[]{ n }).openCsv();
+        assertThat(csv.read(buffer, 0, 0)).isZero();
+        assertThat(csv.read(buffer, 0, 2)).isEqualTo(2);
+        csv.close();
+        assertThat(csv.read(buffer, 0, buffer.length)).isEqualTo(-1);
+
+        assertThat(read(Fixture.generated("orders", List.of("id"), 0, n -> new Object[]{ n }), 16)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should read the columns of a CSV file from its header, quoted or not")
+    void shouldReadHeader(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("customers.csv");
+        Files.writeString(file, "id, \"last, first\" ,\"say \"\"hi\"\"\",email\n1,\"Doe, John\",hi,john@doe.org\n");
+
+        Fixture fixture = Fixture.csv("customers", file);
+
+        assertThat(fixture.columns()).containsExactly("id", "last, first", "say \"hi\"", "email");
+        assertThat(read(fixture, 5)).isEqualTo("1,\"Doe, John\",hi,john@doe.org\n");
+    }
+
+    @Test
+    @DisplayName("should reject a CSV header with an unterminated quote")
+    void shouldRejectUnterminatedQuote() {
+        assertThatThrownBy(() -> Fixture.columns("id,\"name"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unterminated quote");
+    }
+
+    private static String read(Fixture fixture, int chunk) throws IOException {
+        StringBuilder csv = new StringBuilder();
+        char[] buffer = new char[chunk];
+
+        try (Reader reader = fixture.openCsv()) {
+            int read;
+            while ((read = reader.read(buffer, 0, chunk)) != -1) {
+                csv.append(buffer, 0, read);
+            }
+        }
+
+        return csv.toString();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class FlightRecordingTest {
+
+    @Test
+    @DisplayName("should summarize the allocations and hot methods of the connector threads")
+    void shouldSummarizeConnectorThreads() throws InterruptedException {
+        RecordingSummary summary;
+        try (FlightRecording recording = FlightRecording.start(FlightRecordingTest.class.getSimpleName())) {
+            Thread connector = Thread.ofPlatform().name("debezium-test-connector").start(() -> allocate(Duration.ofMillis(500)));
+            connector.join();
+
+            summary = recording.stop();
+        }
+
+        assertThat(summary.file()).exists();
+        assertThat(summary.duration()).isPositive();
+        assertThat(summary.allocatedBytes()).isPositive();
+        assertThat(summary.hotMethods()).isNotEmpty();
+    }
+
+    private static void allocate(Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<byte[]> retained = new ArrayList<>();
+
+        while (System.nanoTime() < deadline) {
+            retained.add(new byte[1024]);
+            if (retained.size() == 10_000) {
+                retained.clear();
+            }
+        }
+    }
+}
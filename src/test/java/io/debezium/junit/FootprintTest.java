@@ -0,0 +1,100 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class FootprintTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<Thread> threads = new ArrayList<>();
+
+    @AfterEach
+    void releaseThreads() throws InterruptedException {
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @Test
+    @DisplayName("should report the threads named after the engine, not those of another running engine")
+    void shouldAttributeThreadsByLogicalName() {
+        Footprint orders = new Footprint("orders-engine", "orders", true);
+        Footprint customers = new Footprint("customers-engine", "customers", true);
+        orders.start();
+        customers.start();
+
+        park("debezium-syntheticconnector-orders-poller");
+        park("debezium-syntheticconnector-customers-poller");
+        orders.stop();
+
+        assertThat(orders.leakedThreads()).containsExactly("debezium-syntheticconnector-orders-poller");
+
+        customers.stop();
+        assertThat(customers.leakedThreads()).containsExactly("debezium-syntheticconnector-customers-poller");
+    }
+
+    @Test
+    @DisplayName("should not report unnamed pool threads while another engine started before them runs")
+    void shouldIgnorePoolThreadsOfRunningEngines() {
+        Footprint first = new Footprint("first-engine", "first", true);
+        Footprint second = new Footprint("second-engine", "second", true);
+        first.start();
+        second.start();
+
+        park("pool-1000-thread-1");
+        first.stop();
+
+        assertThat(first.leakedThreads()).isEmpty();
+
+        second.stop();
+        assertThat(second.leakedThreads()).containsExactly("pool-1000-thread-1");
+    }
+
+    @Test
+    @DisplayName("should not report the threads created before the engine started")
+    void shouldIgnoreThreadsBeforeStart() {
+        park("debezium-syntheticconnector-orders-poller");
+        Footprint orders = new Footprint("orders-engine", "orders", true);
+        orders.start();
+        orders.stop();
+
+        assertThat(orders.leakedThreads()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should neither sample nor look for leaked threads unless enabled")
+    void shouldDoNothingUnlessEnabled() {
+        Footprint orders = new Footprint("orders-engine", "orders", false);
+        orders.start();
+        park("debezium-syntheticconnector-orders-poller");
+        orders.reached(EnginePhase.TASK_STARTED);
+        orders.stop();
+
+        assertThat(orders.samples()).isEmpty();
+        assertThat(orders.leakedThreads()).isEmpty();
+    }
+
+    private void park(String name) {
+        threads.add(Thread.ofPlatform().name(name).daemon().start(() -> {
+            try {
+                release.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.DebeziumException;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.pipeline.notification.IncrementalSnapshotNotificationService;
+import io.debezium.pipeline.notification.Notification;
+import io.debezium.pipeline.notification.SnapshotStatus;
+import io.debezium.pipeline.notification.channels.SinkNotificationChannel;
+import io.debezium.pipeline.signal.channels.process.InProcessSignalChannel;
+
+public class IncrementalSnapshotProgressTest {
+    private static final String NOTIFICATIONS = "notifications";
+    private static final Schema NOTIFICATION_SCHEMA = SchemaBuilder.struct()
+            .field(Notification.ID_KEY, Schema.STRING_SCHEMA)
+            .field(Notification.TYPE, Schema.STRING_SCHEMA)
+            .field(Notification.AGGREGATE_TYPE, Schema.STRING_SCHEMA)
+            .field(Notification.ADDITIONAL_DATA, SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.STRING_SCHEMA).build())
+            .build();
+
+    private DefaultJunitDebeziumEngine engine;
+
+    @BeforeEach
+    void createEngine() {
+        engine = new DefaultJunitDebeziumEngine(SyntheticSourceConnector.class, Map.of(
+                CommonConnectorConfig.SIGNAL_ENABLED_CHANNELS.name(), InProcessSignalChannel.CHANNEL_NAME,
+                CommonConnectorConfig.NOTIFICATION_ENABLED_CHANNELS.name(), SinkNotificationChannel.CHANNEL_NAME,
+                SinkNotificationChannel.NOTIFICATION_TOPIC.name(), NOTIFICATIONS),
+                new NoOpConnectorCallback(), new ChangeEventBuffer(0, EvictionPolicy.DROP_OLDEST), ConsumptionMode.RECORD);
+    }
+
+    @AfterEach
+    void closeEngine() throws IOException {
+        engine.close();
+    }
+
+    @Test
+    @DisplayName("should follow the chunks of its snapshot until completed")
+    void shouldFollowSnapshot() {
+        IncrementalSnapshotProgress progress = follow("signal", "public.customers");
+
+        progress.onChangeEvent(notification("signal", SnapshotStatus.STARTED, Map.of(IncrementalSnapshotNotificationService.DATA_COLLECTIONS, "public.customers")));
+        progress.onChangeEvent(notification("signal", SnapshotStatus.IN_PROGRESS,
+                Map.of(IncrementalSnapshotNotificationService.CURRENT_COLLECTION_IN_PROGRESS, "public.customers")));
+        progress.onChangeEvent(notification("signal", SnapshotStatus.IN_PROGRESS,
+                Map.of(IncrementalSnapshotNotificationService.CURRENT_COLLECTION_IN_PROGRESS, "inventory.public.customers")));
+        progress.onChangeEvent(notification("signal", SnapshotStatus.TABLE_SCAN_COMPLETED, Map.of(
+                IncrementalSnapshotNotificationService.SCANNED_COLLECTION, "public.customers",
+                IncrementalSnapshotNotificationService.TOTAL_ROWS_SCANNED, "42")));
+        progress.onChangeEvent(notification("signal", SnapshotStatus.COMPLETED, Map.of()));
+
+        assertThat(progress.await(Duration.ofSeconds(1)).isCompleted()).isTrue();
+        assertThat(progress.chunks("public.customers")).isEqualTo(2);
+        assertThat(progress.rowsScanned("public.customers")).isEqualTo(42);
+        assertThat(progress.duration("public.customers")).isPresent();
+        assertThat(engine.listeners()).doesNotContain(progress);
+    }
+
+    @Test
+    @DisplayName("should ignore the notifications of other snapshots")
+    void shouldIgnoreOtherSnapshots() {
+        IncrementalSnapshotProgress progress = follow("signal", "public.customers");
+
+        progress.onChangeEvent(notification("earlier", SnapshotStatus.COMPLETED, Map.of()));
+        progress.onChangeEvent(notification("concurrent", SnapshotStatus.STARTED, Map.of(IncrementalSnapshotNotificationService.DATA_COLLECTIONS, "public.orders")));
+        progress.onChangeEvent(notification("concurrent", SnapshotStatus.IN_PROGRESS,
+                Map.of(IncrementalSnapshotNotificationService.CURRENT_COLLECTION_IN_PROGRESS, "public.customers")));
+        progress.onChangeEvent(notification("concurrent", SnapshotStatus.ABORTED, Map.of()));
+
+        assertThat(progress.isCompleted()).isFalse();
+        assertThat(progress.chunks("public.customers")).isZero();
+        assertThat(engine.listeners()).contains(progress);
+
+        progress.onChangeEvent(notification("uncorrelated", SnapshotStatus.STARTED,
+                Map.of(IncrementalSnapshotNotificationService.DATA_COLLECTIONS, "inventory.public.customers")));
+        progress.onChangeEvent(notification("uncorrelated", SnapshotStatus.ABORTED, Map.of()));
+
+        assertThatThrownBy(() -> progress.await(Duration.ofSeconds(1)))
+                .isInstanceOf(DebeziumException.class)
+                .hasMessageContaining("failed");
+        assertThat(engine.listeners()).doesNotContain(progress);
+    }
+
+    @Test
+    @DisplayName("should stop following the snapshot when it cannot be signalled")
+    void shouldRemoveListenerWhenSignalFails() {
+        assertThatThrownBy(() -> engine.incrementalSnapshot().dataCollection("public.customers").start())
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(engine.listeners()).isEmpty();
+    }
+
+    private IncrementalSnapshotProgress follow(String signalId, String... dataCollections) {
+        IncrementalSnapshotProgress progress = new IncrementalSnapshotProgress(engine, NOTIFICATIONS, signalId, List.of(dataCollections));
+        engine.addListener(progress);
+
+        return progress;
+    }
+
+    private static SourceRecord notification(String id, SnapshotStatus status, Map<String, String> data) {
+        Struct value = new Struct(NOTIFICATION_SCHEMA)
+                .put(Notification.ID_KEY, id)
+                .put(Notification.TYPE, status.name())
+                .put(Notification.AGGREGATE_TYPE, IncrementalSnapshotNotificationService.INCREMENTAL_SNAPSHOT)
+                .put(Notification.ADDITIONAL_DATA, data);
+
+        return new SourceRecord(Map.of(), Map.of(), NOTIFICATIONS, null, null, NOTIFICATION_SCHEMA, value);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class NetworkProxyTest {
+
+    @Test
+    @DisplayName("should keep serving while the target is slow to accept connections")
+    void shouldNotBlockOnConnect() throws IOException {
+        List<SocketChannel> backlog = new ArrayList<>();
+
+        // never accepting, once its backlog is full the connection attempts hang
+        try (ServerSocket target = new ServerSocket(0, 1)) {
+            for (int i = 0; i < 4; i++) {
+                SocketChannel channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                channel.connect(new InetSocketAddress("127.0.0.1", target.getLocalPort()));
+                backlog.add(channel);
+            }
+
+            NetworkProxy proxy = new NetworkProxy("127.0.0.1", target.getLocalPort(), NetworkConditions.NONE);
+            try (Socket first = new Socket(proxy.host(), proxy.port());
+                 Socket second = new Socket(proxy.host(), proxy.port())) {
+                Awaitility.await()
+                        .atMost(Duration.ofSeconds(2))
+                        .until(() -> proxy.connections() == 2);
+            }
+            finally {
+                long start = System.nanoTime();
+                proxy.close();
+
+                assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+            }
+        }
+        finally {
+            for (SocketChannel channel : backlog) {
+                channel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.apache.kafka.connect.transforms.Transformation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class RecordPipelineTest {
+
+    @Test
+    @DisplayName("should never apply the same transform instance on two threads at once")
+    void shouldNotShareTransformsAcrossThreads() throws Exception {
+        DebeziumIntegrationTest declaration = Declaration.class.getAnnotation(DebeziumIntegrationTest.class);
+
+        try (RecordPipeline pipeline = RecordPipeline.of(List.of(declaration.transforms()), List.of(), OutputFormat.JSON, Map.of());
+             ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> applied = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                SourceRecord record = new SourceRecord(Map.of(), Map.of(), "customers", Schema.INT32_SCHEMA, i);
+                applied.add(executor.submit(() -> assertThat(pipeline.apply(record)).isNotNull()));
+            }
+            for (Future<?> future : applied) {
+                future.get();
+            }
+
+            assertThat(pipeline.statistics())
+                    .allMatch(stage -> stage.records() == 400);
+        }
+    }
+
+    @DebeziumIntegrationTest(value = SyntheticSourceConnector.class, transforms = @Transform(name = "exclusive", type = Exclusive.class))
+    private static class Declaration {
+    }
+
+    public static class Exclusive implements Transformation<SourceRecord> {
+        private final AtomicBoolean applying = new AtomicBoolean();
+
+        @Override
+        public SourceRecord apply(SourceRecord record) {
+            if (!applying.compareAndSet(false, true)) {
+                throw new IllegalStateException("applied concurrently");
+            }
+            try {
+                Thread.sleep(1);
+
+                return record;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            finally {
+                applying.set(false);
+            }
+        }
+
+        @Override
+        public ConfigDef config() {
+            return new ConfigDef();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void configure(Map<String, ?> configs) {
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ *  Copyright Debezium Authors.
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.junit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TestResourcesTest {
+    private static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void clearEvents() {
+        EVENTS.clear();
+    }
+
+    @Test
+    @DisplayName("should start dependencies first and stop them last")
+    void shouldHonourDependencies() {
+        TestResources resources = new TestResources(List.of(new Connect(), new Schema(), new Database()));
+
+        resources.start();
+        assertThat(EVENTS).containsExactly("start Database", "start Schema", "start Connect");
+
+        EVENTS.clear();
+        resources.stop();
+        assertThat(EVENTS).containsExactly("stop Connect", "stop Schema", "stop Database");
+    }
+
+    @Test
+    @DisplayName("should reject cyclic and undeclared dependencies")
+    void shouldRejectInvalidDependencies() {
+        assertThatThrownBy(() -> new TestResources(List.of(new Chicken(), new Egg())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Cyclic dependency");
+        assertThatThrownBy(() -> new TestResources(List.of(new Schema())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not declared");
+    }
+
+    @Test
+    @DisplayName("should let the last declared resource win on conflicting keys")
+    void shouldMergeInDeclarationOrder() {
+        TestResources slowLast = new TestResources(List.of(new Fast(), new Slow()));
+        assertThat(slowLast.start()).containsEntry("database.hostname", "slow");
+        slowLast.stop();
+
+        TestResources fastLast = new TestResources(List.of(new Slow(), new Fast()));
+        assertThat(fastLast.start()).containsEntry("database.hostname", "fast");
+        fastLast.stop();
+    }
+
+    @Test
+    @DisplayName("should stop the started resources in reverse dependency order when one fails")
+    void shouldStopStartedOnFailure() {
+        TestResources resources = new TestResources(List.of(new Failing(), new Connect(), new Schema(), new Database()));
+
+        assertThatThrownBy(resources::start)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("unable to start");
+
+        assertThat(EVENTS.subList(EVENTS.indexOf("stop Connect"), EVENTS.size()))
+                .containsExactly("stop Connect", "stop Schema", "stop Database");
+        assertThat(EVENTS).doesNotContain("stop Failing");
+    }
+
+    @Test
+    @DisplayName("should share the resource decorated by a proxy with the tests declaring it")
+    void shouldShareProxiedResource() {
+        TestResources resources = new TestResources(List.of(new Addressed(), new ProxiedAddressed()));
+
+        resources.start();
+        assertThat(EVENTS).containsExactly("start Addressed");
+
+        EVENTS.clear();
+        resources.stop();
+        assertThat(EVENTS).containsExactly("stop Addressed");
+    }
+
+    private abstract static class StubResource implements DebeziumTestResourceLifecycleManager {
+
+        @Override
+        public Map<String, String> start() {
+            EVENTS.add("start " + getClass().getSimpleName());
+
+            return Map.of(getClass().getSimpleName(), "started");
+        }
+
+        @Override
+        public void stop() {
+            EVENTS.add("stop " + getClass().getSimpleName());
+        }
+    }
+
+    private static class Database extends StubResource {
+
+        @Override
+        public Map<String, String> start() {
+            sleep(50);
+
+            return super.start();
+        }
+    }
+
+    private static class Schema extends StubResource {
+
+        @Override
+        public List<Class<? extends DebeziumTestResourceLifecycleManager>> dependsOn() {
+            return List.of(Database.class);
+        }
+    }
+
+    private static class Connect extends StubResource {
+
+        @Override
+        public List<Class<? extends DebeziumTestResourceLifecycleManager>> dependsOn() {
+            return List.of(Schema.class);
+        }
+    }
+
+    private static class Failing extends StubResource {
+
+        @Override
+        public List<Class<? extends DebeziumTestResourceLifecycleManager>> dependsOn() {
+            return List.of(Connect.class);
+        }
+
+        @Override
+        public Map<String, String> start() {
+            throw new IllegalStateException("unable to start");
+        }
+    }
+
+    private static class Chicken extends StubResource {
+
+        @Override
+        public List<Class<? extends DebeziumTestResourceLifecycleManager>> dependsOn() {
+            return List.of(Egg.class);
+        }
+    }
+
+    private static class Egg extends StubResource {
+
+        @Override
+        public List<Class<? extends DebeziumTestResourceLifecycleManager>> dependsOn() {
+            return List.of(Chicken.class);
+        }
+    }
+
+    private static class Slow extends StubResource {
+
+        @Override
+        public Map<String, String> start() {
+            sleep(100);
+
+            return Map.of("database.hostname", "slow");
+        }
+    }
+
+    private static class Fast extends StubResource {
+
+        @Override
+        public Map<String, String> start() {
+            return Map.of("database.hostname", "fast");
+        }
+    }
+
+    private static class Addressed extends StubResource {
+
+        @Override
+        public Map<String, String> start() {
+            super.start();
+
+            return Map.of("database.hostname", "127.0.0.1", "database.port", "5432");
+        }
+    }
+
+    private static class ProxiedAddressed extends ProxiedResource {
+
+        ProxiedAddressed() {
+            super(new Addressed(), NetworkConditions.NONE);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}